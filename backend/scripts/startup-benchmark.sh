@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+#
+# Measures startup time from JVM launch to the first served HTTP request.
+#
+# Usage:
+#   scripts/startup-benchmark.sh jar [runs]            # java -jar target/*.jar
+#   scripts/startup-benchmark.sh docker <image> [runs] # docker run <image>
+#
+# The database configured in application.properties (or via SPRING_DATASOURCE_*
+# environment variables) must be reachable. The first request is an unauthenticated
+# chatbot message, so the timing covers context startup plus one full request.
+set -euo pipefail
+
+MODE="${1:-jar}"
+if [ "$MODE" = "docker" ]; then
+    IMAGE="${2:?docker mode needs an image name}"
+    RUNS="${3:-5}"
+else
+    RUNS="${2:-5}"
+fi
+PORT="${PORT:-8080}"
+URL="http://localhost:${PORT}/api/chatbot"
+
+now_ms() {
+    date +%s%3N
+}
+
+first_request() {
+    curl -sf -o /dev/null -X POST -H 'Content-Type: application/json' \
+        -d '{"message":"hello"}' "$URL"
+}
+
+total=0
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    if [ "$MODE" = "docker" ]; then
+        container=$(docker run -d --network host -e SERVER_PORT="$PORT" \
+            -e SPRING_DATASOURCE_URL -e SPRING_DATASOURCE_USERNAME -e SPRING_DATASOURCE_PASSWORD \
+            "$IMAGE")
+        stop() { docker rm -f "$container" > /dev/null; }
+    else
+        java -jar target/*.jar --server.port="$PORT" > /dev/null 2>&1 &
+        pid=$!
+        stop() { kill "$pid"; wait "$pid" 2> /dev/null || true; }
+    fi
+
+    until first_request; do
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    stop
+
+    echo "run ${run}: ${elapsed} ms"
+    total=$(( total + elapsed ))
+done
+
+echo "average over ${RUNS} runs: $(( total / RUNS )) ms"
@@ -1,17 +1,21 @@
 package com.hotel.management;
 
 import com.hotel.management.entity.Booking;
+import com.hotel.management.entity.Hotel;
 import com.hotel.management.entity.Role;
 import com.hotel.management.entity.Room;
 import com.hotel.management.entity.User;
 import com.hotel.management.repository.BookingRepository;
+import com.hotel.management.repository.HotelRepository;
 import com.hotel.management.repository.RoomRepository;
 import com.hotel.management.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.math.BigDecimal;
@@ -19,18 +23,37 @@ import java.time.LocalDate;
 import java.util.Arrays;
 
 @SpringBootApplication
+@EnableScheduling
 public class HotelManagementSystemApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(HotelManagementSystemApplication.class, args);
 	}
 
+	// Always registered and checked at run time: Spring AOT fixes bean conditions at build
+	// time, so a condition on app.seed.enabled could never be turned on in the AOT image
 	@Bean
-	public CommandLineRunner initializeData(UserRepository userRepository, 
+	public CommandLineRunner initializeData(HotelRepository hotelRepository,
+										   UserRepository userRepository, 
 										   RoomRepository roomRepository, 
 										   BookingRepository bookingRepository, 
-										   PasswordEncoder passwordEncoder) {
+										   PasswordEncoder passwordEncoder,
+										   @Value("${app.seed.enabled:false}") boolean seedEnabled) {
 		return args -> {
+			if (!seedEnabled) {
+				return;
+			}
+
+			// Create the default hotel if not exists
+			Hotel hotel = hotelRepository.findByCode("MAIN").orElse(null);
+			if (hotel == null) {
+				hotel = new Hotel();
+				hotel.setCode("MAIN");
+				hotel.setName("Main Hotel");
+				hotel = hotelRepository.save(hotel);
+				System.out.println("Default hotel created: MAIN");
+			}
+
 			// Create admin user if not exists
 			if (!userRepository.findByEmail("admin@hotel.com").isPresent()) {
 				User adminUser = new User();
@@ -43,32 +66,37 @@ public class HotelManagementSystemApplication {
 			}
 
 			// Create sample rooms if none exist
-			if (roomRepository.count() == 0) {
+			if (roomRepository.countByHotelId(hotel.getId()) == 0) {
 				Room room1 = new Room();
+				room1.setHotel(hotel);
 				room1.setRoomNumber("101");
 				room1.setType("Standard");
 				room1.setPrice(new BigDecimal("100.00"));
 				room1.setAvailable(true);
 
 				Room room2 = new Room();
+				room2.setHotel(hotel);
 				room2.setRoomNumber("102");
 				room2.setType("Standard");
 				room2.setPrice(new BigDecimal("100.00"));
 				room2.setAvailable(true);
 
 				Room room3 = new Room();
+				room3.setHotel(hotel);
 				room3.setRoomNumber("201");
 				room3.setType("Deluxe");
 				room3.setPrice(new BigDecimal("150.00"));
 				room3.setAvailable(true);
 
 				Room room4 = new Room();
+				room4.setHotel(hotel);
 				room4.setRoomNumber("202");
 				room4.setType("Deluxe");
 				room4.setPrice(new BigDecimal("150.00"));
 				room4.setAvailable(true);
 
 				Room room5 = new Room();
+				room5.setHotel(hotel);
 				room5.setRoomNumber("301");
 				room5.setType("Suite");
 				room5.setPrice(new BigDecimal("250.00"));
@@ -79,7 +107,7 @@ public class HotelManagementSystemApplication {
 			}
 
 			// Create sample customer and booking if none exist
-			if (bookingRepository.count() == 0) {
+			if (bookingRepository.countByHotelId(hotel.getId()) == 0) {
 				User customer = userRepository.findByEmail("customer@hotel.com").orElse(null);
 				if (customer == null) {
 					customer = new User();
@@ -90,9 +118,10 @@ public class HotelManagementSystemApplication {
 					customer = userRepository.save(customer);
 				}
 
-				Room sampleRoom = roomRepository.findByRoomNumber("101").orElse(null);
+				Room sampleRoom = roomRepository.findByHotelIdAndRoomNumber(hotel.getId(), "101").orElse(null);
 				if (sampleRoom != null) {
 					Booking booking = new Booking();
+					booking.setHotel(hotel);
 					booking.setUser(customer);
 					booking.setRoom(sampleRoom);
 					booking.setCheckInDate(LocalDate.now().plusDays(1));
@@ -0,0 +1,9 @@
+package com.hotel.management.audit;
+
+public enum AuditAction {
+    BOOKING_CREATED,
+    BOOKING_CANCELLED,
+    ROOM_ADDED,
+    ROOM_UPDATED,
+    ROOM_DELETED
+}
@@ -0,0 +1,7 @@
+package com.hotel.management.audit;
+
+/**
+ * An audit entry waiting in the ring buffer. Ids that don't apply are -1.
+ */
+record AuditEvent(long timestamp, AuditAction action, long hotelId, long roomId, long bookingId, String actor) {
+}
@@ -0,0 +1,299 @@
+package com.hotel.management.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.crypto.Mac;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only audit trail of booking and room changes. Request threads only capture
+ * the event and push it onto a lock-free ring buffer; a single writer thread encodes
+ * records into memory-mapped segment files, forces them to disk in groups, rolls over
+ * to a new segment when one fills up and deletes segments past the retention period.
+ * Records are chained with an HMAC keyed by {@code app.audit.hmac-key}, which must be
+ * kept away from the audit directory.
+ */
+@Service
+public class AuditLog implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    private final Path directory;
+    private final String key;
+    private final int segmentSize;
+    private final long fsyncIntervalNanos;
+    private final long retentionDays;
+    private final AuditRingBuffer ringBuffer;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    // Writer thread state
+    private final Mac mac;
+    private final ByteBuffer body = ByteBuffer.allocate(AuditSegments.MAX_RECORD_SIZE);
+    private MappedByteBuffer segment;
+    private byte[] lastChain = new byte[AuditSegments.HASH_SIZE];
+    private long sequence;
+    private long lastForce;
+    private boolean dirty;
+
+    // Published by the writer so in-process scans never read a half-written record
+    private volatile Path activeSegment;
+    private volatile long activeLimit;
+
+    public AuditLog(@Value("${app.audit.directory:audit}") String directory,
+                    @Value("${app.audit.hmac-key}") String key,
+                    @Value("${app.audit.segment-size-mb:64}") int segmentSizeMb,
+                    @Value("${app.audit.fsync-interval-ms:50}") long fsyncIntervalMs,
+                    @Value("${app.audit.retention-days:365}") long retentionDays,
+                    @Value("${app.audit.ring-capacity:65536}") int ringCapacity) {
+        this.directory = Paths.get(directory);
+        this.key = key;
+        this.mac = AuditSegments.newMac(key);
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMs);
+        this.retentionDays = retentionDays;
+        this.ringBuffer = new AuditRingBuffer(ringCapacity);
+    }
+
+    /**
+     * Records an action by the authenticated user. Inside a transaction the record is
+     * only queued once the transaction commits.
+     */
+    public void record(AuditAction action, Long hotelId, Long roomId, Long bookingId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        record(action, hotelId, roomId, bookingId, authentication != null ? authentication.getName() : null);
+    }
+
+    public void record(AuditAction action, Long hotelId, Long roomId, Long bookingId, String actor) {
+        AuditEvent event = new AuditEvent(System.currentTimeMillis(), action,
+                hotelId != null ? hotelId : -1, roomId != null ? roomId : -1, bookingId != null ? bookingId : -1, actor);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    public List<AuditRecord> scan(Long roomId, String actor, Instant from, Instant to, int limit) throws IOException {
+        return new AuditLogReader(directory, key).scan(roomId, actor, from, to, limit, activeSegment, activeLimit);
+    }
+
+    private void enqueue(AuditEvent event) {
+        // Back-pressure only when the writer falls a full ring behind
+        while (!ringBuffer.offer(event)) {
+            if (!running) {
+                if (dropped.incrementAndGet() % 1000 == 1) {
+                    log.warn("Audit log is not running, {} records dropped", dropped.get());
+                }
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open audit log in " + directory.toAbsolutePath(), e);
+        }
+        running = true;
+        writer = new Thread(this::drain, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        while (true) {
+            AuditEvent event = ringBuffer.poll();
+            if (event != null) {
+                try {
+                    append(event);
+                } catch (IOException e) {
+                    log.error("Could not write audit record {}", event, e);
+                }
+                // Under sustained load the queue never drains, so the interval applies here too
+                if (dirty && System.nanoTime() - lastForce >= fsyncIntervalNanos) {
+                    force();
+                }
+                continue;
+            }
+            // Queue drained: fsync whatever this group wrote, then idle briefly
+            if (dirty && System.nanoTime() - lastForce >= fsyncIntervalNanos) {
+                force();
+            }
+            if (!running) {
+                force();
+                return;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+        }
+    }
+
+    private void append(AuditEvent event) throws IOException {
+        byte[] actor = event.actor() != null ? event.actor().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (actor.length > AuditSegments.MAX_ACTOR_BYTES) {
+            actor = Arrays.copyOf(actor, AuditSegments.MAX_ACTOR_BYTES);
+        }
+        body.clear();
+        body.putLong(sequence + 1)
+                .putLong(event.timestamp())
+                .put((byte) event.action().ordinal())
+                .putLong(event.hotelId())
+                .putLong(event.roomId())
+                .putLong(event.bookingId())
+                .putShort((short) actor.length)
+                .put(actor);
+        body.flip();
+
+        int length = 4 + body.remaining() + AuditSegments.HASH_SIZE;
+        if (segment.position() + length > segment.capacity()) {
+            roll();
+        }
+        lastChain = AuditSegments.chain(mac, lastChain, body.duplicate());
+
+        int start = segment.position();
+        segment.position(start + 4);
+        segment.put(body);
+        segment.put(lastChain);
+        // The length goes in last, so a torn record reads as the end of the segment
+        segment.putInt(start, length);
+        sequence++;
+        dirty = true;
+        activeLimit = segment.position();
+    }
+
+    private void force() {
+        if (dirty) {
+            segment.force();
+            dirty = false;
+        }
+        lastForce = System.nanoTime();
+    }
+
+    private void roll() throws IOException {
+        force();
+        open(directory.resolve(AuditSegments.fileName(sequence + 1)), true);
+        deleteExpiredSegments();
+    }
+
+    private void open(Path path, boolean create) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        if (create) {
+            segment.put(AuditSegments.MAGIC);
+            segment.put(lastChain);
+            segment.force();
+        }
+        activeSegment = path;
+        activeLimit = segment.position();
+    }
+
+    /**
+     * Reopens the newest segment and continues after its last record, or starts a fresh
+     * segment when there is none. A segment whose hash chain breaks is left untouched
+     * for inspection: it is sealed and writing continues in a new segment, chained from
+     * its last record so that only the broken records fail verification.
+     */
+    private void recover() throws IOException {
+        List<Path> segments = AuditSegments.list(directory);
+        if (segments.isEmpty()) {
+            open(directory.resolve(AuditSegments.fileName(1)), true);
+            return;
+        }
+
+        Path last = segments.get(segments.size() - 1);
+        open(last, false);
+        segment.position(AuditSegments.MAGIC.length);
+        segment.get(lastChain);
+
+        String name = last.getFileName().toString();
+        sequence = Long.parseLong(name.substring("audit-".length(), name.length() - ".seg".length())) - 1;
+        boolean intact = true;
+        int length;
+        while ((length = AuditSegments.recordLength(segment, segment.capacity())) > 0) {
+            int start = segment.position();
+            ByteBuffer recordBody = segment.slice(start + 4, length - 4 - AuditSegments.HASH_SIZE);
+            byte[] stored = new byte[AuditSegments.HASH_SIZE];
+            segment.get(start + length - AuditSegments.HASH_SIZE, stored);
+            if (intact && !Arrays.equals(AuditSegments.chain(mac, lastChain, recordBody.duplicate()), stored)) {
+                log.error("Audit segment {} fails verification at sequence {}, sealing it",
+                        last.getFileName(), sequence + 1);
+                intact = false;
+            }
+            lastChain = stored;
+            // A broken record's own sequence cannot be trusted, but it still takes a number
+            sequence = intact ? recordBody.getLong(0) : sequence + 1;
+            segment.position(start + length);
+        }
+        if (intact) {
+            activeLimit = segment.position();
+            deleteExpiredSegments();
+        } else {
+            roll();
+        }
+    }
+
+    private void deleteExpiredSegments() throws IOException {
+        Instant cutoff = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+        for (Path path : AuditSegments.list(directory)) {
+            if (!path.equals(activeSegment) && Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+                Files.deleteIfExists(path);
+                log.info("Deleted expired audit segment {}", path.getFileName());
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.hotel.management.audit;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line scanner for audit segments, usable while the application is running:
+ *
+ * <pre>
+ * AUDIT_HMAC_KEY=... java -cp app.jar -Dloader.main=com.hotel.management.audit.AuditLogCli \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher \
+ *     --dir=audit --room=12 --user=admin@hotel.com --from=2025-01-01T00:00:00Z --to=2025-02-01T00:00:00Z
+ * </pre>
+ *
+ * The chain is verified with the application's {@code app.audit.hmac-key}, read from the
+ * {@code AUDIT_HMAC_KEY} environment variable or from the file given with {@code --key-file}.
+ * Prints one line per matching record; records whose hash chain does not verify are
+ * marked TAMPERED.
+ */
+public class AuditLogCli {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                usage();
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        String key = options.containsKey("key-file")
+                ? Files.readString(Paths.get(options.get("key-file"))).strip()
+                : System.getenv("AUDIT_HMAC_KEY");
+        if (key == null || key.isBlank()) {
+            System.err.println("Set AUDIT_HMAC_KEY or pass --key-file with the application's app.audit.hmac-key");
+            usage();
+        }
+
+        AuditLogReader reader = new AuditLogReader(Paths.get(options.getOrDefault("dir", "audit")), key);
+        for (AuditRecord record : reader.scan(
+                options.containsKey("room") ? Long.valueOf(options.get("room")) : null,
+                options.get("user"),
+                options.containsKey("from") ? Instant.parse(options.get("from")) : null,
+                options.containsKey("to") ? Instant.parse(options.get("to")) : null,
+                Integer.parseInt(options.getOrDefault("limit", String.valueOf(Integer.MAX_VALUE))))) {
+            System.out.printf("%d %s %s hotel=%s room=%s booking=%s by=%s%s%n",
+                    record.getSequence(), record.getTimestamp(), record.getAction(),
+                    record.getHotelId(), record.getRoomId(), record.getBookingId(), record.getActor(),
+                    record.isVerified() ? "" : " TAMPERED");
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: AuditLogCli [--dir=audit] [--key-file=path] [--room=id] [--user=email] "
+                + "[--from=instant] [--to=instant] [--limit=n]");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,121 @@
+package com.hotel.management.audit;
+
+import javax.crypto.Mac;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Scans audit segments and returns the records matching the filters, verifying the
+ * hash chain with the writer's HMAC key as it goes. Null filters match everything.
+ */
+public class AuditLogReader {
+
+    private final Path directory;
+    private final String key;
+
+    public AuditLogReader(Path directory, String key) {
+        this.directory = directory;
+        this.key = key;
+    }
+
+    public List<AuditRecord> scan(Long roomId, String actor, Instant from, Instant to, int limit) throws IOException {
+        return scan(roomId, actor, from, to, limit, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Variant used by the writer's own process: {@code activeSegment} is only read up to
+     * {@code activeLimit}, the end of its last fully written record.
+     */
+    List<AuditRecord> scan(Long roomId, String actor, Instant from, Instant to, int limit,
+                           Path activeSegment, long activeLimit) throws IOException {
+        List<AuditRecord> results = new ArrayList<>();
+        List<Path> segments = AuditSegments.list(directory);
+        Mac mac = AuditSegments.newMac(key);
+        byte[] expectedPrevious = null;
+
+        for (int i = 0; i < segments.size() && results.size() < limit; i++) {
+            Path segment = segments.get(i);
+            boolean last = i == segments.size() - 1;
+            // Older segments whose last write precedes the range cannot match
+            if (from != null && !last && Files.getLastModifiedTime(segment).toInstant().isBefore(from)) {
+                expectedPrevious = null;
+                continue;
+            }
+
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (segment.equals(activeSegment)) {
+                    size = Math.min(size, activeLimit);
+                }
+                if (size < AuditSegments.HEADER_SIZE) {
+                    continue;
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                byte[] magic = new byte[AuditSegments.MAGIC.length];
+                buffer.get(magic);
+                if (!Arrays.equals(magic, AuditSegments.MAGIC)) {
+                    continue;
+                }
+                byte[] previous = new byte[AuditSegments.HASH_SIZE];
+                buffer.get(previous);
+                boolean headerIntact = expectedPrevious == null || Arrays.equals(expectedPrevious, previous);
+
+                int length;
+                while (results.size() < limit && (length = AuditSegments.recordLength(buffer, (int) size)) > 0) {
+                    int start = buffer.position();
+                    ByteBuffer body = buffer.slice(start + 4, length - 4 - AuditSegments.HASH_SIZE);
+                    byte[] stored = new byte[AuditSegments.HASH_SIZE];
+                    buffer.get(start + length - AuditSegments.HASH_SIZE, stored);
+                    boolean verified = headerIntact && Arrays.equals(
+                            AuditSegments.chain(mac, previous, body.duplicate()), stored);
+                    headerIntact = true;
+                    previous = stored;
+
+                    AuditRecord record = decode(body, verified);
+                    if (matches(record, roomId, actor, from, to)) {
+                        results.add(record);
+                    }
+                    buffer.position(start + length);
+                }
+                expectedPrevious = previous;
+            }
+        }
+        return results;
+    }
+
+    private static AuditRecord decode(ByteBuffer body, boolean verified) {
+        long sequence = body.getLong();
+        Instant timestamp = Instant.ofEpochMilli(body.getLong());
+        byte action = body.get();
+        long hotelId = body.getLong();
+        long roomId = body.getLong();
+        long bookingId = body.getLong();
+        byte[] actor = new byte[body.getShort()];
+        body.get(actor);
+        AuditAction[] actions = AuditAction.values();
+        return new AuditRecord(sequence, timestamp,
+                action >= 0 && action < actions.length ? actions[action] : null,
+                hotelId < 0 ? null : hotelId,
+                roomId < 0 ? null : roomId,
+                bookingId < 0 ? null : bookingId,
+                actor.length == 0 ? null : new String(actor, StandardCharsets.UTF_8),
+                verified);
+    }
+
+    private static boolean matches(AuditRecord record, Long roomId, String actor, Instant from, Instant to) {
+        return (roomId == null || roomId.equals(record.getRoomId()))
+                && (actor == null || actor.equals(record.getActor()))
+                && (from == null || !record.getTimestamp().isBefore(from))
+                && (to == null || !record.getTimestamp().isAfter(to));
+    }
+}
@@ -0,0 +1,22 @@
+package com.hotel.management.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRecord {
+    private long sequence;
+    private Instant timestamp;
+    private AuditAction action;
+    private Long hotelId;
+    private Long roomId;
+    private Long bookingId;
+    private String actor;
+    // False when the record's hash does not chain from its predecessor, i.e. it was altered
+    private boolean verified;
+}
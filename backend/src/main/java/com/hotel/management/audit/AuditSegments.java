@@ -0,0 +1,97 @@
+package com.hotel.management.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * On-disk layout of audit segment files.
+ *
+ * <pre>
+ * segment: magic (8) | hash chaining from the previous segment (32) | records... | zero fill
+ * record:  length (4) | sequence (8) | timestamp (8) | action (1) | hotelId (8) | roomId (8)
+ *          | bookingId (8) | actor length (2) | actor UTF-8 | chain hash (32)
+ * </pre>
+ *
+ * Each record's chain hash is HMAC-SHA256 over the previous record's chain hash and this
+ * record's body (sequence through actor), so editing or removing a record breaks the
+ * chain from that point on. The key comes from configuration and is never written to the
+ * audit directory: without it, a chain cannot be recomputed to cover an edit.
+ */
+final class AuditSegments {
+
+    static final byte[] MAGIC = "HMSAUDT1".getBytes(StandardCharsets.US_ASCII);
+    static final int HASH_SIZE = 32;
+    static final int HEADER_SIZE = MAGIC.length + HASH_SIZE;
+    static final int FIXED_BODY_SIZE = 8 + 8 + 1 + 8 + 8 + 8 + 2;
+    static final int MAX_ACTOR_BYTES = 512;
+    static final int MAX_RECORD_SIZE = 4 + FIXED_BODY_SIZE + MAX_ACTOR_BYTES + HASH_SIZE;
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".seg";
+
+    private AuditSegments() {
+    }
+
+    static String fileName(long firstSequence) {
+        return String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX);
+    }
+
+    // Sorted oldest first; zero-padded sequence numbers sort lexicographically
+    static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static Mac newMac(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("An audit HMAC key is required");
+        }
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static byte[] chain(Mac mac, byte[] previous, ByteBuffer body) {
+        mac.update(previous);
+        mac.update(body);
+        return mac.doFinal();
+    }
+
+    /**
+     * Length of the record at the buffer's position, or 0 when there is no complete
+     * record there (end of data or a torn write).
+     */
+    static int recordLength(ByteBuffer buffer, int limit) {
+        int position = buffer.position();
+        if (position + 4 > limit) {
+            return 0;
+        }
+        int length = buffer.getInt(position);
+        if (length < 4 + FIXED_BODY_SIZE + HASH_SIZE || length > MAX_RECORD_SIZE || position + length > limit) {
+            return 0;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,95 @@
+package com.hotel.management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.Location;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(HotelDataSourceProperties.class)
+public class DataSourceConfig {
+
+    private static final String DEDICATED_MIGRATIONS = "classpath:db/dedicated";
+
+    private static final String DEFAULT_POOL = "spring.datasource.hikari";
+
+    /**
+     * Hikari pools for the default datasource ({@code spring.datasource.hikari.*}, as
+     * without this configuration) and each dedicated one. A hotel's pool starts from the
+     * default pool settings and applies its own {@code app.hotels.datasources.<id>.hikari.*}
+     * on top, so a large property can get a bigger pool on its own node.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties defaultProperties,
+                                 HotelDataSourceProperties hotelProperties,
+                                 Environment environment) {
+        Binder binder = Binder.get(environment);
+        Map<Object, Object> targets = new HashMap<>();
+        hotelProperties.getDatasources().forEach((hotelId, properties) -> {
+            HikariDataSource pool = pool(properties, binder, DEFAULT_POOL);
+            pool.setPoolName("hotel-" + hotelId);
+            binder.bind(HotelDataSourceProperties.PREFIX + ".datasources." + hotelId + ".hikari",
+                    Bindable.ofInstance(pool));
+            targets.put(hotelId, pool);
+        });
+
+        HotelRoutingDataSource routingDataSource = new HotelRoutingDataSource();
+        routingDataSource.setDefaultTargetDataSource(pool(defaultProperties, binder, DEFAULT_POOL));
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Binder binder, String prefix) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(prefix, Bindable.ofInstance(pool));
+        return pool;
+    }
+
+    /**
+     * Flyway only sees the default datasource through the router, so hotels with a
+     * dedicated datasource are migrated explicitly with the same configuration plus
+     * {@code db/dedicated}, which drops the foreign keys into the hotel and user
+     * directory that only the default database holds.
+     *
+     * {@code app.flyway.migrate-on-startup=false} skips all of it at runtime. Unlike
+     * {@code spring.flyway.enabled} it still works when Spring AOT has fixed the bean
+     * conditions at build time, which the CDS training run in the Dockerfile relies on.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(DataSource dataSource,
+                                                           @Value("${app.flyway.migrate-on-startup:true}") boolean migrate) {
+        return flyway -> {
+            if (!migrate) {
+                return;
+            }
+            flyway.migrate();
+            if (dataSource instanceof HotelRoutingDataSource routingDataSource) {
+                List<Location> locations = new ArrayList<>(List.of(flyway.getConfiguration().getLocations()));
+                locations.add(new Location(DEDICATED_MIGRATIONS));
+                routingDataSource.getResolvedDataSources().values().forEach(target -> Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .locations(locations.toArray(Location[]::new))
+                        .dataSource(target)
+                        .load()
+                        .migrate());
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.hotel.management.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the property (hotel) the current thread is working on. Set per request by
+ * {@link HotelContextFilter} and read by the repositories' callers and by
+ * {@link HotelRoutingDataSource} to pick the property's database.
+ */
+public final class HotelContext {
+
+    private static final ThreadLocal<Long> CURRENT_HOTEL = new ThreadLocal<>();
+
+    private HotelContext() {
+    }
+
+    public static Long getHotelId() {
+        Long hotelId = CURRENT_HOTEL.get();
+        if (hotelId == null) {
+            throw new IllegalStateException("No hotel selected for the current request");
+        }
+        return hotelId;
+    }
+
+    public static Long peekHotelId() {
+        return CURRENT_HOTEL.get();
+    }
+
+    public static void setHotelId(Long hotelId) {
+        CURRENT_HOTEL.set(hotelId);
+    }
+
+    public static void clear() {
+        CURRENT_HOTEL.remove();
+    }
+
+    /**
+     * Runs {@code work} with {@code hotelId} bound (or no hotel, when null) and restores
+     * the previous binding afterwards.
+     */
+    public static <T> T callAs(Long hotelId, Supplier<T> work) {
+        Long previous = CURRENT_HOTEL.get();
+        CURRENT_HOTEL.set(hotelId);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_HOTEL.remove();
+            } else {
+                CURRENT_HOTEL.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.hotel.management.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HotelContextFilter extends OncePerRequestFilter {
+
+    public static final String HOTEL_HEADER = "X-Hotel-Id";
+
+    @Value("${app.hotels.default-id:1}")
+    private Long defaultHotelId;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HOTEL_HEADER);
+        try {
+            HotelContext.setHotelId(StringUtils.hasText(header) ? Long.valueOf(header.trim()) : defaultHotelId);
+        } catch (NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid " + HOTEL_HEADER + " header");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            HotelContext.clear();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.hotel.management.config;
+
+import lombok.Data;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dedicated datasources keyed by hotel id, e.g.
+ * {@code app.hotels.datasources.2.url=jdbc:mysql://db-2:3306/hotel_2}. Pool settings go
+ * under {@code app.hotels.datasources.2.hikari.*} and are bound by {@link DataSourceConfig}.
+ */
+@Data
+@ConfigurationProperties(prefix = HotelDataSourceProperties.PREFIX)
+public class HotelDataSourceProperties {
+
+    public static final String PREFIX = "app.hotels";
+
+    private Map<Long, DataSourceProperties> datasources = new HashMap<>();
+}
@@ -0,0 +1,16 @@
+package com.hotel.management.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes connections to the database of the hotel bound to the current thread.
+ * Hotels without a dedicated datasource, and work done outside any hotel (startup,
+ * hotel directory lookups), fall back to the default datasource.
+ */
+public class HotelRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return HotelContext.peekHotelId();
+    }
+}
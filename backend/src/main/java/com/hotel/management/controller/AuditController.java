@@ -0,0 +1,33 @@
+package com.hotel.management.controller;
+
+import com.hotel.management.audit.AuditLog;
+import com.hotel.management.audit.AuditRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/audit")
+public class AuditController {
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<AuditRecord> getAuditRecords(@RequestParam(required = false) Long roomId,
+                                             @RequestParam(required = false) String user,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                             @RequestParam(defaultValue = "1000") int limit) throws IOException {
+        return auditLog.scan(roomId, user, from, to, limit);
+    }
+}
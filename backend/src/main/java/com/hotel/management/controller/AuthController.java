@@ -1,15 +1,23 @@
 package com.hotel.management.controller;
 
+import com.hotel.management.config.HotelContext;
 import com.hotel.management.dto.JwtAuthenticationResponse;
+import com.hotel.management.config.JwtAuthenticationFilter;
 import com.hotel.management.dto.LoginRequest;
+import com.hotel.management.dto.RevokeRequest;
 import com.hotel.management.dto.SignUpRequest;
 import com.hotel.management.entity.Role;
 import com.hotel.management.entity.User;
 import com.hotel.management.repository.UserRepository;
+import com.hotel.management.service.TokenRevocationService;
+import com.hotel.management.service.UserPrincipal;
 import com.hotel.management.util.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -37,19 +45,13 @@ public class AuthController {
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @PostMapping("/signin")
     public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
         try {
-            // First check if user exists
-            User user = userRepository.findByEmail(loginRequest.getEmail())
-                    .orElse(null);
-            
-            if (user == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body("User not found with email: " + loginRequest.getEmail());
-            }
-
-            // Try to authenticate
+            // Unknown emails surface as BadCredentialsException
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             loginRequest.getEmail(),
@@ -59,7 +61,8 @@ public class AuthController {
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
             String jwt = tokenProvider.generateToken(authentication);
-            
+            User user = ((UserPrincipal) authentication.getPrincipal()).getUser();
+
             return ResponseEntity.ok(new JwtAuthenticationResponse(jwt, user.getRole().name()));
         } catch (BadCredentialsException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -72,7 +75,8 @@ public class AuthController {
 
     @PostMapping("/signup")
     public ResponseEntity<?> registerUser(@RequestBody SignUpRequest signUpRequest) {
-        if (userRepository.findByEmail(signUpRequest.getEmail()).isPresent()) {
+        // Users live in the default datasource, whichever hotel the request is for
+        if (HotelContext.callAs(null, () -> userRepository.findByEmail(signUpRequest.getEmail())).isPresent()) {
             return new ResponseEntity<>("Email Address already in use!", HttpStatus.BAD_REQUEST);
         }
 
@@ -82,8 +86,35 @@ public class AuthController {
         user.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
         user.setRole(Role.ROLE_CUSTOMER); // Default role
 
-        userRepository.save(user);
+        HotelContext.callAs(null, () -> userRepository.save(user));
 
         return new ResponseEntity<>("User registered successfully", HttpStatus.OK);
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(HttpServletRequest request) {
+        String jwt = JwtAuthenticationFilter.getJwtFromRequest(request);
+        Claims claims = jwt != null ? tokenProvider.parseClaims(jwt) : null;
+        if (claims == null) {
+            return new ResponseEntity<>("Missing or invalid token", HttpStatus.BAD_REQUEST);
+        }
+        tokenRevocationService.revokeToken(claims);
+        return ResponseEntity.ok("Logged out successfully");
+    }
+
+    @PostMapping("/revoke")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> revoke(@RequestBody RevokeRequest revokeRequest) {
+        if (revokeRequest.getToken() != null) {
+            Claims claims = tokenProvider.parseClaims(revokeRequest.getToken());
+            if (claims == null) {
+                return new ResponseEntity<>("Invalid or expired token", HttpStatus.BAD_REQUEST);
+            }
+            tokenRevocationService.revokeToken(claims);
+        }
+        if (revokeRequest.getEmail() != null) {
+            tokenRevocationService.revokeUser(revokeRequest.getEmail());
+        }
+        return ResponseEntity.ok("Tokens revoked successfully");
+    }
 }
@@ -1,20 +1,26 @@
 package com.hotel.management.controller;
 
+import com.hotel.management.config.HotelContext;
 import com.hotel.management.dto.BookingRequest;
 import com.hotel.management.entity.Booking;
 import com.hotel.management.entity.Room;
 import com.hotel.management.entity.User;
-import com.hotel.management.repository.UserRepository;
+import com.hotel.management.service.BookingBatchWriter;
 import com.hotel.management.service.BookingService;
+import com.hotel.management.service.DirectoryService;
+import com.hotel.management.service.RoomNotAvailableException;
 import com.hotel.management.service.RoomService;
+import com.hotel.management.service.RoomSuggestionIndex;
+import com.hotel.management.service.UserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -24,16 +30,21 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private BookingBatchWriter bookingBatchWriter;
+
     @Autowired
     private RoomService roomService;
 
     @Autowired
-    private UserRepository userRepository;
+    private RoomSuggestionIndex roomSuggestionIndex;
+
+    @Autowired
+    private DirectoryService directoryService;
 
     @PostMapping
-    public ResponseEntity<?> createBooking(@RequestBody BookingRequest bookingRequest, @AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public ResponseEntity<?> createBooking(@RequestBody BookingRequest bookingRequest, @AuthenticationPrincipal UserPrincipal principal) {
+        User user = principal.getUser();
         Room room = roomService.getRoomById(bookingRequest.getRoomId())
                 .orElseThrow(() -> new RuntimeException("Room not found"));
 
@@ -44,30 +55,46 @@ public class BookingController {
         booking.setCheckOutDate(bookingRequest.getCheckOutDate());
 
         try {
-            Booking createdBooking = bookingService.createBooking(booking);
-            return ResponseEntity.ok(createdBooking);
+            Booking createdBooking = bookingBatchWriter.isEnabled()
+                    ? bookingBatchWriter.book(booking)
+                    : bookingService.createBooking(booking);
+            return ResponseEntity.ok(directoryService.resolve(createdBooking));
+        } catch (RoomNotAvailableException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(roomSuggestionIndex.suggest(
+                    HotelContext.getHotelId(), room.getId(), booking.getCheckInDate(), booking.getCheckOutDate()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
 
     @GetMapping("/my-bookings")
-    public List<Booking> getMyBookings(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public List<Booking> getMyBookings(@AuthenticationPrincipal UserPrincipal principal,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        User user = principal.getUser();
+        if (from != null && to != null) {
+            return bookingService.getBookingsForUser(user, from, to);
+        }
         return bookingService.getBookingsForUser(user);
     }
 
     @DeleteMapping("/{bookingId}")
     public ResponseEntity<?> cancelBooking(@PathVariable Long bookingId) {
-        bookingService.cancelBooking(bookingId);
-        return ResponseEntity.ok("Booking canceled successfully");
+        try {
+            bookingService.cancelBooking(bookingId);
+            return ResponseEntity.ok("Booking canceled successfully");
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public List<Booking> getAllBookings() {
-        // This should be implemented in BookingService
+    public List<Booking> getAllBookings(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from != null && to != null) {
+            return bookingService.getAllBookings(from, to);
+        }
         return bookingService.getAllBookings();
     }
 } 
\ No newline at end of file
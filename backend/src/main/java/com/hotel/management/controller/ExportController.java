@@ -0,0 +1,68 @@
+package com.hotel.management.controller;
+
+import com.hotel.management.service.ExportFormat;
+import com.hotel.management.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+// Rows are written on the request thread so the hotel context and security context still apply
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    @GetMapping("/bookings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportBookings(@RequestParam(defaultValue = "csv") String format,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = resolve(format, response);
+        if (exportFormat != null) {
+            exportService.exportBookings(from, to, exportFormat, open(response, exportFormat, "bookings"));
+        }
+    }
+
+    @GetMapping("/rooms")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportRooms(@RequestParam(defaultValue = "csv") String format,
+                            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = resolve(format, response);
+        if (exportFormat != null) {
+            exportService.exportRooms(exportFormat, open(response, exportFormat, "rooms"));
+        }
+    }
+
+    private ExportFormat resolve(String format, HttpServletResponse response) throws IOException {
+        try {
+            return ExportFormat.fromParameter(format);
+        } catch (RuntimeException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return null;
+        }
+    }
+
+    private Writer open(HttpServletResponse response, ExportFormat format, String name) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+        return new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,35 @@
+package com.hotel.management.controller;
+
+import com.hotel.management.dto.HotelReportSummary;
+import com.hotel.management.entity.Hotel;
+import com.hotel.management.service.HotelService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/hotels")
+public class HotelController {
+
+    @Autowired
+    private HotelService hotelService;
+
+    @GetMapping
+    public List<Hotel> getAllHotels() {
+        return hotelService.getAllHotels();
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public Hotel addHotel(@RequestBody Hotel hotel) {
+        return hotelService.addHotel(hotel);
+    }
+
+    @GetMapping("/report")
+    @PreAuthorize("hasRole('ADMIN')")
+    public HotelReportSummary getReport() {
+        return hotelService.getReport();
+    }
+}
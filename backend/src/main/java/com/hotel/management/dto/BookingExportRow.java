@@ -0,0 +1,30 @@
+package com.hotel.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingExportRow {
+    private Long bookingId;
+    private Long roomId;
+    private String roomNumber;
+    private String roomType;
+    // Users live in the directory, so the query only reads the id and the email is filled in afterwards
+    @JsonIgnore
+    private Long userId;
+    private String userEmail;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private boolean archived;
+
+    public BookingExportRow(Long bookingId, Long roomId, String roomNumber, String roomType, Long userId,
+                            LocalDate checkInDate, LocalDate checkOutDate, boolean archived) {
+        this(bookingId, roomId, roomNumber, roomType, userId, null, checkInDate, checkOutDate, archived);
+    }
+}
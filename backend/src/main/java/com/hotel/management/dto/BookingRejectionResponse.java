@@ -0,0 +1,18 @@
+package com.hotel.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingRejectionResponse {
+    private String message;
+    // Rooms of the same type at a similar price that are currently available; not checked against the requested dates
+    private List<RoomSuggestion> alternatives;
+    // The requested room on the earliest dates it frees up, if known
+    private RoomSuggestion shiftedDates;
+}
@@ -0,0 +1,16 @@
+package com.hotel.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelReport {
+    private Long hotelId;
+    private String hotelName;
+    private long totalRooms;
+    private long availableRooms;
+    private long totalBookings;
+}
@@ -0,0 +1,21 @@
+package com.hotel.management.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class HotelReportSummary {
+    private List<HotelReport> hotels = new ArrayList<>();
+    private long totalRooms;
+    private long availableRooms;
+    private long totalBookings;
+
+    public void add(HotelReport report) {
+        hotels.add(report);
+        totalRooms += report.getTotalRooms();
+        availableRooms += report.getAvailableRooms();
+        totalBookings += report.getTotalBookings();
+    }
+}
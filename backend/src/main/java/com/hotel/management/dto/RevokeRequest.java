@@ -0,0 +1,11 @@
+package com.hotel.management.dto;
+
+import lombok.Data;
+
+@Data
+public class RevokeRequest {
+    // Revokes a single token when set
+    private String token;
+    // Revokes every token issued to this user so far when set
+    private String email;
+}
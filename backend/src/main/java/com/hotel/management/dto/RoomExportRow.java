@@ -0,0 +1,18 @@
+package com.hotel.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomExportRow {
+    private Long roomId;
+    private String roomNumber;
+    private String type;
+    private BigDecimal price;
+    private boolean available;
+}
@@ -0,0 +1,20 @@
+package com.hotel.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomSuggestion {
+    private Long roomId;
+    private String roomNumber;
+    private String type;
+    private BigDecimal price;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+}
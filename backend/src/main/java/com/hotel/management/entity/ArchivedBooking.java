@@ -0,0 +1,50 @@
+package com.hotel.management.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.NotFound;
+import org.hibernate.annotations.NotFoundAction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "bookings_archive", indexes = {
+        @Index(name = "idx_bookings_archive_hotel_user", columnList = "hotel_id, user_id, check_out_date"),
+        @Index(name = "idx_bookings_archive_hotel_check_out", columnList = "hotel_id, check_out_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedBooking {
+
+    // Keeps the id the booking had in the bookings table
+    @Id
+    private Long id;
+
+    // Resolved through DirectoryService, which leaves users deleted since archiving null
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hotel_id")
+    private Hotel hotel;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne
+    @NotFound(action = NotFoundAction.IGNORE)
+    @JoinColumn(name = "room_id", nullable = false)
+    private Room room;
+
+    private LocalDate checkInDate;
+
+    private LocalDate checkOutDate;
+
+    private LocalDateTime archivedAt;
+
+    public Booking toBooking() {
+        return new Booking(id, hotel, user, room, checkInDate, checkOutDate, BookingStatus.COMPLETED);
+    }
+}
@@ -8,7 +8,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_hotel_user", columnList = "hotel_id, user_id"),
+        @Index(name = "idx_bookings_hotel_check_out", columnList = "hotel_id, check_out_date"),
+        @Index(name = "idx_bookings_hotel_status_check_in", columnList = "hotel_id, status, check_in_date"),
+        @Index(name = "idx_bookings_hotel_status_check_out", columnList = "hotel_id, status, check_out_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +23,12 @@ public class Booking {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    // Hotels and users may live in another database; see DirectoryService
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hotel_id")
+    private Hotel hotel;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -29,4 +39,9 @@ public class Booking {
     private LocalDate checkInDate;
 
     private LocalDate checkOutDate;
-} 
\ No newline at end of file
+
+    // Moved along by BookingLifecycleService as the stay dates pass
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BookingStatus status = BookingStatus.UPCOMING;
+}
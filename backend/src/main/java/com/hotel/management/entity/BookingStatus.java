@@ -0,0 +1,7 @@
+package com.hotel.management.entity;
+
+public enum BookingStatus {
+    UPCOMING,
+    IN_HOUSE,
+    COMPLETED
+}
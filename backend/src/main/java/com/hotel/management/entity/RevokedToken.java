@@ -0,0 +1,34 @@
+package com.hotel.management.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A revoked token id (jti), or a "user:&lt;email&gt;" entry revoking every token of that
+ * user issued up to {@code revokedAt}. Entries are pruned once {@code expiresAt} passes,
+ * since the tokens they cover have expired by then.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    @Id
+    private String id;
+
+    private LocalDateTime revokedAt;
+
+    private LocalDateTime expiresAt;
+}
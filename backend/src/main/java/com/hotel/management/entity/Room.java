@@ -1,9 +1,13 @@
 package com.hotel.management.entity;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -12,7 +16,10 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "rooms")
+@Table(name = "rooms", indexes = {
+        @Index(name = "idx_rooms_hotel_available", columnList = "hotel_id, is_available"),
+        @Index(name = "idx_rooms_hotel_number", columnList = "hotel_id, room_number")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,6 +29,11 @@ public class Room {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // The hotel directory may live in another database; see DirectoryService
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hotel_id")
+    private Hotel hotel;
+
     private String roomNumber;
 
     private String type;
@@ -29,4 +41,4 @@ public class Room {
     private BigDecimal price;
 
     private boolean isAvailable;
-} 
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.hotel.management.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A named lease held by one instance until {@code leaseUntil}, so that a scheduled job
+ * runs on only one instance at a time.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    private String name;
+
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+}
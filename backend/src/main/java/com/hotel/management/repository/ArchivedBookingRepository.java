@@ -0,0 +1,28 @@
+package com.hotel.management.repository;
+
+import com.hotel.management.entity.ArchivedBooking;
+import com.hotel.management.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    @EntityGraph(attributePaths = "room")
+    @Query("select b from ArchivedBooking b where b.hotel.id = :hotelId and b.user = :user " +
+            "and b.checkOutDate >= :from and b.checkInDate <= :to")
+    List<ArchivedBooking> findByHotelIdAndUserInRange(@Param("hotelId") Long hotelId, @Param("user") User user,
+                                                      @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @EntityGraph(attributePaths = "room")
+    @Query("select b from ArchivedBooking b where b.hotel.id = :hotelId " +
+            "and b.checkOutDate >= :from and b.checkInDate <= :to")
+    List<ArchivedBooking> findByHotelIdInRange(@Param("hotelId") Long hotelId,
+                                               @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
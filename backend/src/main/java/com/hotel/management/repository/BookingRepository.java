@@ -2,12 +2,88 @@ package com.hotel.management.repository;
 
 import com.hotel.management.entity.Booking;
 import com.hotel.management.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findByUser(User user);
-} 
\ No newline at end of file
+    // List reads fetch the room in the same query; hotels and users are resolved by DirectoryService.
+    // Hotel filters compare b.hotel.id, which reads the foreign key instead of joining hotels
+    // (derived queries would join, and a hotel's dedicated database has no hotels rows).
+    @EntityGraph(attributePaths = "room")
+    @Query("select b from Booking b where b.hotel.id = :hotelId and b.user = :user")
+    List<Booking> findByHotelIdAndUser(@Param("hotelId") Long hotelId, @Param("user") User user);
+
+    @EntityGraph(attributePaths = "room")
+    @Query("select b from Booking b where b.hotel.id = :hotelId")
+    List<Booking> findByHotelId(@Param("hotelId") Long hotelId);
+
+    @Query("select b from Booking b where b.id = :id and b.hotel.id = :hotelId")
+    Optional<Booking> findByIdAndHotelId(@Param("id") Long id, @Param("hotelId") Long hotelId);
+
+    @Query("select count(b) from Booking b where b.hotel.id = :hotelId")
+    long countByHotelId(@Param("hotelId") Long hotelId);
+
+    @EntityGraph(attributePaths = "room")
+    @Query("select b from Booking b where b.hotel.id = :hotelId and b.user = :user " +
+            "and b.checkOutDate >= :from and b.checkInDate <= :to")
+    List<Booking> findByHotelIdAndUserInRange(@Param("hotelId") Long hotelId, @Param("user") User user,
+                                              @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @EntityGraph(attributePaths = "room")
+    @Query("select b from Booking b where b.hotel.id = :hotelId " +
+            "and b.checkOutDate >= :from and b.checkInDate <= :to")
+    List<Booking> findByHotelIdInRange(@Param("hotelId") Long hotelId,
+                                       @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Only stays that have not checked out yet can delay a requested room
+    @Query("select b.room.id, max(b.checkOutDate) from Booking b where b.hotel.id = :hotelId " +
+            "and b.checkOutDate > :today group by b.room.id")
+    List<Object[]> findLatestCheckOutDatePerRoom(@Param("hotelId") Long hotelId, @Param("today") LocalDate today);
+
+    // Archival moves rows by primary key in small batches to keep locks short
+    @Query(value = "SELECT id FROM bookings WHERE hotel_id = :hotelId AND check_out_date < :cutoff " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("hotelId") Long hotelId, @Param("cutoff") LocalDate cutoff,
+                                 @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO bookings_archive " +
+            "(id, hotel_id, user_id, room_id, check_in_date, check_out_date, archived_at) " +
+            "SELECT id, hotel_id, user_id, room_id, check_in_date, check_out_date, CURRENT_TIMESTAMP " +
+            "FROM bookings WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM bookings WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // Lifecycle transitions also work by primary key in batches; the status guards make them idempotent
+    @Query(value = "SELECT id FROM bookings WHERE hotel_id = :hotelId AND status = 'UPCOMING' " +
+            "AND check_in_date <= :today AND check_out_date > :today ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsToCheckIn(@Param("hotelId") Long hotelId, @Param("today") LocalDate today,
+                                @Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM bookings WHERE hotel_id = :hotelId AND status IN ('UPCOMING', 'IN_HOUSE') " +
+            "AND check_out_date <= :today ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsToComplete(@Param("hotelId") Long hotelId, @Param("today") LocalDate today,
+                                 @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE bookings SET status = 'IN_HOUSE' WHERE id IN (:ids) AND status = 'UPCOMING'",
+            nativeQuery = true)
+    int checkIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE bookings SET status = 'COMPLETED' WHERE id IN (:ids) AND status IN ('UPCOMING', 'IN_HOUSE')",
+            nativeQuery = true)
+    int complete(@Param("ids") List<Long> ids);
+}
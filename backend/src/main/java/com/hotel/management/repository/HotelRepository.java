@@ -0,0 +1,12 @@
+package com.hotel.management.repository;
+
+import com.hotel.management.entity.Hotel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface HotelRepository extends JpaRepository<Hotel, Long> {
+    Optional<Hotel> findByCode(String code);
+}
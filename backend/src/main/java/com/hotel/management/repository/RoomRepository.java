@@ -1,15 +1,55 @@
 package com.hotel.management.repository;
 
 import com.hotel.management.entity.Room;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
-    List<Room> findByIsAvailable(boolean isAvailable);
-    Optional<Room> findByRoomNumber(String roomNumber);
-    long countByIsAvailableTrue();
-} 
\ No newline at end of file
+    // r.hotel.id reads the foreign key; derived queries would join hotels, which a hotel's
+    // dedicated database does not hold
+    @Query("select r from Room r where r.hotel.id = :hotelId")
+    List<Room> findByHotelId(@Param("hotelId") Long hotelId);
+
+    @Query("select r from Room r where r.id = :id and r.hotel.id = :hotelId")
+    Optional<Room> findByIdAndHotelId(@Param("id") Long id, @Param("hotelId") Long hotelId);
+
+    @Query("select r from Room r where r.hotel.id = :hotelId and r.isAvailable = :isAvailable")
+    List<Room> findByHotelIdAndIsAvailable(@Param("hotelId") Long hotelId, @Param("isAvailable") boolean isAvailable);
+
+    @Query("select r from Room r where r.hotel.id = :hotelId and r.roomNumber = :roomNumber")
+    Optional<Room> findByHotelIdAndRoomNumber(@Param("hotelId") Long hotelId, @Param("roomNumber") String roomNumber);
+
+    @Query("select count(r) from Room r where r.hotel.id = :hotelId")
+    long countByHotelId(@Param("hotelId") Long hotelId);
+
+    @Query("select count(r) from Room r where r.hotel.id = :hotelId and r.isAvailable = true")
+    long countByHotelIdAndIsAvailableTrue(@Param("hotelId") Long hotelId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Room r where r.hotel.id = :hotelId and r.id in :ids")
+    List<Room> findByHotelIdAndIdInForUpdate(@Param("hotelId") Long hotelId, @Param("ids") Collection<Long> ids);
+
+    // Rooms of the given bookings that no upcoming or in-progress stay still holds, locked for release
+    @Query(value = "SELECT r.id FROM rooms r WHERE r.is_available = FALSE " +
+            "AND r.id IN (SELECT room_id FROM bookings WHERE id IN (:bookingIds)) " +
+            "AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.room_id = r.id " +
+            "AND b.status IN ('UPCOMING', 'IN_HOUSE')) FOR UPDATE", nativeQuery = true)
+    List<Long> findRoomIdsToRelease(@Param("bookingIds") List<Long> bookingIds);
+
+    // Frees the given rooms unless another stay is still upcoming or in progress
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE rooms SET is_available = TRUE WHERE is_available = FALSE AND id IN (:roomIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.room_id = rooms.id " +
+            "AND b.status IN ('UPCOMING', 'IN_HOUSE'))", nativeQuery = true)
+    int releaseRooms(@Param("roomIds") List<Long> roomIds);
+}
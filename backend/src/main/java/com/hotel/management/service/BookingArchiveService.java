@@ -0,0 +1,124 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.entity.Hotel;
+import com.hotel.management.repository.BookingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Moves bookings that checked out before the retention window into
+ * {@code bookings_archive}. Each batch is copied and deleted by primary key in its own
+ * short transaction, with a pause in between, so the job never holds long locks or
+ * produces large replication events. Like {@link BookingLifecycleService}, each hotel is
+ * archived under its own database lease and a failing hotel does not stop the others.
+ */
+@Service
+public class BookingArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingArchiveService.class);
+
+    private static final String LEASE_PREFIX = "booking-archive-";
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private SchedulerLeaseService schedulerLeaseService;
+
+    @Value("${app.bookings.archive.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${app.bookings.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.bookings.archive.batch-pause-ms:100}")
+    private long batchPauseMs;
+
+    @Value("${app.bookings.archive.lease-ms:300000}")
+    private long leaseMs;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public BookingArchiveService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Bookings that checked out before this date live in the archive.
+     */
+    public LocalDate getCutoffDate() {
+        return LocalDate.now().minusDays(retentionDays);
+    }
+
+    public boolean reachesArchive(LocalDate from) {
+        return from.isBefore(getCutoffDate());
+    }
+
+    @Scheduled(cron = "${app.bookings.archive.cron:0 0 3 * * *}")
+    public void archiveCompletedBookings() {
+        LocalDate cutoff = getCutoffDate();
+        for (Hotel hotel : hotelService.getAllHotels()) {
+            try {
+                int archived = HotelContext.callAs(hotel.getId(), () -> archiveHotel(hotel.getId(), cutoff));
+                if (archived > 0) {
+                    log.info("Archived {} bookings of hotel {} that checked out before {}",
+                            archived, hotel.getCode(), cutoff);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not archive bookings of hotel {}", hotel.getCode(), e);
+            }
+        }
+    }
+
+    private int archiveHotel(Long hotelId, LocalDate cutoff) {
+        String lease = LEASE_PREFIX + hotelId;
+        Duration leaseDuration = Duration.ofMillis(leaseMs);
+        if (!schedulerLeaseService.tryAcquire(lease, leaseDuration)) {
+            return 0;
+        }
+        try {
+            return archiveBatches(hotelId, cutoff, lease, leaseDuration);
+        } finally {
+            schedulerLeaseService.release(lease);
+        }
+    }
+
+    private int archiveBatches(Long hotelId, LocalDate cutoff, String lease, Duration leaseDuration) {
+        int total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = bookingRepository.findArchivableIds(hotelId, cutoff, batchSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                bookingRepository.copyToArchive(ids);
+                bookingRepository.deleteByIds(ids);
+                return ids.size();
+            });
+            total += moved;
+            if (moved < batchSize || !schedulerLeaseService.tryAcquire(lease, leaseDuration)) {
+                return total;
+            }
+            try {
+                Thread.sleep(batchPauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return total;
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.entity.Booking;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Burst mode for booking creation. Requests are queued on one of several partitions
+ * (by room id) and each partition has a single writer thread that drains its queue in
+ * micro-batches, committing a whole batch in one transaction through
+ * {@link BookingService#createBookingBatch}. Callers block until their batch commits.
+ * A caller that times out abandons its booking only if the writer has not claimed it
+ * yet; once claimed, the caller waits up to one more timeout for the outcome of the batch.
+ */
+@Service
+public class BookingBatchWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingBatchWriter.class);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Value("${app.bookings.burst.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.bookings.burst.partitions:4}")
+    private int partitions;
+
+    @Value("${app.bookings.burst.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${app.bookings.burst.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.bookings.burst.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private final List<BlockingQueue<PendingBooking>> queues = new ArrayList<>();
+    private final List<Thread> writers = new ArrayList<>();
+
+    private static final int QUEUED = 0;
+    private static final int CLAIMED = 1;
+    private static final int ABANDONED = 2;
+
+    private record PendingBooking(Long hotelId, Booking booking, CompletableFuture<Booking> result,
+                                  AtomicInteger state) {
+
+        private PendingBooking(Long hotelId, Booking booking) {
+            this(hotelId, booking, new CompletableFuture<>(), new AtomicInteger(QUEUED));
+        }
+
+        // The writer and a timed-out caller race for the booking; exactly one of them wins
+        private boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        private boolean abandon() {
+            return state.compareAndSet(QUEUED, ABANDONED);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < partitions; i++) {
+            BlockingQueue<PendingBooking> queue = new ArrayBlockingQueue<>(queueCapacity);
+            Thread writer = new Thread(() -> drain(queue), "booking-writer-" + i);
+            writer.setDaemon(true);
+            queues.add(queue);
+            writers.add(writer);
+            writer.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        writers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Queues the booking for the current hotel and waits for the batch containing it to commit.
+     */
+    public Booking book(Booking booking) {
+        PendingBooking pending = new PendingBooking(HotelContext.getHotelId(), booking);
+        BlockingQueue<PendingBooking> queue = queues.get(Math.floorMod(booking.getRoom().getId(), partitions));
+        if (!queue.offer(pending)) {
+            throw new RuntimeException("Booking queue is full, please retry");
+        }
+        try {
+            try {
+                return pending.result().get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.abandon()) {
+                    throw new RuntimeException("Booking timed out, please retry");
+                }
+                // Already part of a batch that is committing; its outcome is the caller's
+                return pending.result().get(timeoutMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            // The batch may still commit, so a blind retry could book the room twice
+            throw new RuntimeException("Booking is taking longer than expected, please check your bookings");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Booking interrupted");
+        }
+    }
+
+    private void drain(BlockingQueue<PendingBooking> queue) {
+        List<PendingBooking> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                queue.drainTo(batch, maxBatchSize - 1);
+                batch.removeIf(pending -> !pending.claim());
+
+                Map<Long, List<PendingBooking>> byHotel = batch.stream()
+                        .collect(Collectors.groupingBy(PendingBooking::hotelId));
+                byHotel.forEach(this::commit);
+            } catch (Throwable e) {
+                // Keep the writer alive; completing an already completed future is a no-op
+                log.error("Booking writer failed on a batch of {}", batch.size(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(
+                        new RuntimeException("Booking batch failed, please retry")));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(Long hotelId, List<PendingBooking> group) {
+        try {
+            List<Booking> results = HotelContext.callAs(hotelId, () ->
+                    bookingService.createBookingBatch(group.stream().map(PendingBooking::booking).toList()));
+            for (int i = 0; i < group.size(); i++) {
+                Booking created = results.get(i);
+                if (created != null) {
+                    group.get(i).result().complete(created);
+                } else {
+                    group.get(i).result().completeExceptionally(new RoomNotAvailableException());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Booking batch of {} failed", group.size(), e);
+            group.forEach(pending -> pending.result().completeExceptionally(e));
+        } finally {
+            // Claimed callers wait without a timeout, so none may be left pending
+            group.forEach(pending -> pending.result().completeExceptionally(
+                    new RuntimeException("Booking batch failed, please retry")));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.entity.Hotel;
+import com.hotel.management.repository.BookingRepository;
+import com.hotel.management.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves bookings from UPCOMING to IN_HOUSE on their check-in date and to COMPLETED on
+ * their check-out date, releasing the room once no other stay holds it and reporting
+ * each released room to {@link RoomSuggestionIndex}. Every batch selects up to
+ * {@code batch-size} ids and updates them with a few set-based statements in one short
+ * transaction; the status guards make a repeated or overlapping run a no-op. Each
+ * hotel is processed under its own database lease, released once the hotel is done,
+ * so with several instances only one works on a hotel at a time.
+ */
+@Service
+public class BookingLifecycleService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingLifecycleService.class);
+
+    private static final String LEASE_PREFIX = "booking-lifecycle-";
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private SchedulerLeaseService schedulerLeaseService;
+
+    @Autowired
+    private RoomSuggestionIndex roomSuggestionIndex;
+
+    @Value("${app.bookings.lifecycle.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.bookings.lifecycle.lease-ms:300000}")
+    private long leaseMs;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public BookingLifecycleService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private record CompletedBatch(int completed, List<Long> releasedRoomIds) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.bookings.lifecycle.interval-ms:60000}")
+    public void advanceBookings() {
+        LocalDate today = LocalDate.now();
+        for (Hotel hotel : hotelService.getAllHotels()) {
+            try {
+                HotelContext.callAs(hotel.getId(), () -> {
+                    advanceHotel(hotel, today);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                log.warn("Could not advance bookings of hotel {}", hotel.getCode(), e);
+            }
+        }
+    }
+
+    private void advanceHotel(Hotel hotel, LocalDate today) {
+        String lease = LEASE_PREFIX + hotel.getId();
+        Duration leaseDuration = Duration.ofMillis(leaseMs);
+        if (!schedulerLeaseService.tryAcquire(lease, leaseDuration)) {
+            return;
+        }
+
+        int checkedIn = 0;
+        int completed = 0;
+        List<Long> released = new ArrayList<>();
+        try {
+            while (true) {
+                Integer moved = transactionTemplate.execute(status -> {
+                    List<Long> ids = bookingRepository.findIdsToCheckIn(hotel.getId(), today, batchSize);
+                    return ids.isEmpty() ? 0 : bookingRepository.checkIn(ids);
+                });
+                checkedIn += moved;
+                if (moved < batchSize || !schedulerLeaseService.tryAcquire(lease, leaseDuration)) {
+                    break;
+                }
+            }
+            while (true) {
+                CompletedBatch batch = transactionTemplate.execute(status -> {
+                    List<Long> ids = bookingRepository.findIdsToComplete(hotel.getId(), today, batchSize);
+                    if (ids.isEmpty()) {
+                        return new CompletedBatch(0, List.of());
+                    }
+                    int count = bookingRepository.complete(ids);
+                    List<Long> roomIds = roomRepository.findRoomIdsToRelease(ids);
+                    if (!roomIds.isEmpty()) {
+                        roomRepository.releaseRooms(roomIds);
+                    }
+                    return new CompletedBatch(count, roomIds);
+                });
+                completed += batch.completed();
+                released.addAll(batch.releasedRoomIds());
+                if (batch.completed() < batchSize || !schedulerLeaseService.tryAcquire(lease, leaseDuration)) {
+                    break;
+                }
+            }
+        } finally {
+            released.forEach(roomId -> roomSuggestionIndex.roomReleased(hotel.getId(), roomId));
+            schedulerLeaseService.release(lease);
+        }
+
+        if (checkedIn > 0 || completed > 0) {
+            log.info("Hotel {}: {} bookings checked in, {} completed, {} rooms released",
+                    hotel.getCode(), checkedIn, completed, released.size());
+        }
+    }
+}
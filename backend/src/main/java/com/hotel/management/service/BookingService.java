@@ -1,15 +1,26 @@
 package com.hotel.management.service;
 
+import com.hotel.management.audit.AuditAction;
+import com.hotel.management.audit.AuditLog;
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.entity.ArchivedBooking;
 import com.hotel.management.entity.Booking;
+import com.hotel.management.entity.BookingStatus;
 import com.hotel.management.entity.Room;
 import com.hotel.management.entity.User;
+import com.hotel.management.repository.ArchivedBookingRepository;
 import com.hotel.management.repository.BookingRepository;
 import com.hotel.management.repository.RoomRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class BookingService {
@@ -20,32 +31,128 @@ public class BookingService {
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Autowired
+    private BookingArchiveService bookingArchiveService;
+
+    @Autowired
+    private RoomSuggestionIndex roomSuggestionIndex;
+
+    @Autowired
+    private DirectoryService directoryService;
+
+    @Autowired
+    private AuditLog auditLog;
+
     @Transactional
     public Booking createBooking(Booking booking) {
         Room room = booking.getRoom();
         if (!room.isAvailable()) {
-            throw new RuntimeException("Room not available");
+            throw new RoomNotAvailableException();
         }
         room.setAvailable(false);
         roomRepository.save(room);
-        return bookingRepository.save(booking);
+        booking.setHotel(room.getHotel());
+        Booking saved = bookingRepository.save(booking);
+        roomSuggestionIndex.roomBooked(room, booking.getCheckOutDate());
+        recordCreated(saved);
+        return saved;
+    }
+
+    /**
+     * Creates a batch of bookings in one transaction. The batch's rooms are locked with a
+     * single query and availability is then checked in memory, in arrival order. The
+     * result is aligned with the input, holding null for bookings whose room was taken.
+     */
+    @Transactional
+    public List<Booking> createBookingBatch(List<Booking> bookings) {
+        List<Long> roomIds = bookings.stream().map(booking -> booking.getRoom().getId()).distinct().toList();
+        Map<Long, Room> rooms = roomRepository.findByHotelIdAndIdInForUpdate(HotelContext.getHotelId(), roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        List<Booking> results = new ArrayList<>(bookings.size());
+        List<Booking> accepted = new ArrayList<>();
+        for (Booking booking : bookings) {
+            Room room = rooms.get(booking.getRoom().getId());
+            if (room == null || !room.isAvailable()) {
+                results.add(null);
+                continue;
+            }
+            room.setAvailable(false);
+            booking.setRoom(room);
+            booking.setHotel(room.getHotel());
+            accepted.add(booking);
+            results.add(booking);
+        }
+        bookingRepository.saveAll(accepted);
+        accepted.forEach(booking -> {
+            roomSuggestionIndex.roomBooked(booking.getRoom(), booking.getCheckOutDate());
+            recordCreated(booking);
+        });
+        return results;
+    }
+
+    // Batches run on writer threads without a security context, so the booker is recorded
+    private void recordCreated(Booking booking) {
+        auditLog.record(AuditAction.BOOKING_CREATED, booking.getRoom().getHotel().getId(),
+                booking.getRoom().getId(), booking.getId(), booking.getUser().getEmail());
     }
 
     @Transactional
     public void cancelBooking(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findByIdAndHotelId(bookingId, HotelContext.getHotelId())
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
+        if (booking.getStatus() != BookingStatus.UPCOMING) {
+            throw new RuntimeException("Only upcoming bookings can be canceled");
+        }
         Room room = booking.getRoom();
-        room.setAvailable(true);
-        roomRepository.save(room);
         bookingRepository.delete(booking);
+        // The room stays taken while another stay still holds it
+        if (roomRepository.releaseRooms(List.of(room.getId())) > 0) {
+            roomSuggestionIndex.roomReleased(room);
+        }
+        auditLog.record(AuditAction.BOOKING_CANCELLED, HotelContext.getHotelId(), room.getId(), bookingId);
     }
 
     public List<Booking> getBookingsForUser(User user) {
-        return bookingRepository.findByUser(user);
+        return ownedBy(bookingRepository.findByHotelIdAndUser(HotelContext.getHotelId(), user), user);
     }
 
     public List<Booking> getAllBookings() {
-        return bookingRepository.findAll();
+        return directoryService.resolveBookings(bookingRepository.findByHotelId(HotelContext.getHotelId()));
+    }
+
+    /**
+     * Bookings of the user overlapping [from, to]. Archived bookings are included when
+     * the range reaches back past the archive retention window.
+     */
+    public List<Booking> getBookingsForUser(User user, LocalDate from, LocalDate to) {
+        Long hotelId = HotelContext.getHotelId();
+        List<Booking> bookings = new ArrayList<>(bookingRepository.findByHotelIdAndUserInRange(hotelId, user, from, to));
+        if (bookingArchiveService.reachesArchive(from)) {
+            archivedBookingRepository.findByHotelIdAndUserInRange(hotelId, user, from, to).stream()
+                    .map(ArchivedBooking::toBooking)
+                    .forEach(bookings::add);
+        }
+        return ownedBy(bookings, user);
+    }
+
+    public List<Booking> getAllBookings(LocalDate from, LocalDate to) {
+        Long hotelId = HotelContext.getHotelId();
+        List<Booking> bookings = new ArrayList<>(bookingRepository.findByHotelIdInRange(hotelId, from, to));
+        if (bookingArchiveService.reachesArchive(from)) {
+            archivedBookingRepository.findByHotelIdInRange(hotelId, from, to).stream()
+                    .map(ArchivedBooking::toBooking)
+                    .forEach(bookings::add);
+        }
+        return directoryService.resolveBookings(bookings);
+    }
+
+    // The user is already known, so only the hotels need resolving
+    private List<Booking> ownedBy(List<Booking> bookings, User user) {
+        bookings.forEach(booking -> booking.setUser(user));
+        return directoryService.resolveBookings(bookings);
     }
 }
@@ -0,0 +1,6 @@
+package com.hotel.management.service;
+
+@FunctionalInterface
+public interface CacheInvalidationListener {
+    void onInvalidation(String key, String payload);
+}
@@ -0,0 +1,201 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.config.HotelDataSourceProperties;
+import com.hotel.management.entity.CacheInvalidation;
+import com.hotel.management.repository.CacheInvalidationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps in-process caches coherent across instances using only the shared database.
+ * A change is recorded as a row in {@code cache_invalidations}, in the same transaction
+ * when there is one, and every instance tails that table in batches every
+ * {@code poll-interval-ms}, handing new rows to the listeners of the named cache. A
+ * cache is therefore stale on other instances for at most about one poll interval.
+ *
+ * Each datasource (the default one and every dedicated hotel datasource) has its own
+ * table and is tailed separately. Ids that are skipped because their transaction has
+ * not committed yet are waited for up to {@code gap-timeout-ms}.
+ *
+ * The poller runs on its own thread rather than as a {@code @Scheduled} method: the
+ * shared scheduler has a single thread, and a long archive run would otherwise hold
+ * every cache stale until it finished.
+ */
+@Service
+public class CacheInvalidationService {
+
+    public static final String ROOMS = "rooms";
+    public static final String ROOM_AVAILABILITY = "room-availability";
+    public static final String REVOKED_TOKENS = "revoked-tokens";
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationService.class);
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Autowired
+    private HotelDataSourceProperties hotelDataSourceProperties;
+
+    @Value("${app.cache.invalidation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.cache.invalidation.gap-timeout-ms:10000}")
+    private long gapTimeoutMs;
+
+    @Value("${app.cache.invalidation.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${app.cache.invalidation.poll-interval-ms:500}")
+    private long pollIntervalMs;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, List<CacheInvalidationListener>> listeners = new ConcurrentHashMap<>();
+    // Keyed by hotel id of a dedicated datasource, null for the default one; poller thread only
+    private final Map<Long, Cursor> cursors = new HashMap<>();
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean polling;
+
+    private static final class Cursor {
+        private long position;
+        private final TreeSet<Long> seenAhead = new TreeSet<>();
+        private long gapSince;
+
+        private Cursor(long position) {
+            this.position = position;
+        }
+
+        private void advance(long gapTimeoutNanos) {
+            while (true) {
+                while (seenAhead.remove(position + 1)) {
+                    position++;
+                }
+                if (seenAhead.isEmpty()) {
+                    gapSince = 0;
+                    return;
+                }
+                long now = System.nanoTime();
+                if (gapSince == 0) {
+                    gapSince = now;
+                    return;
+                }
+                if (now - gapSince < gapTimeoutNanos) {
+                    return;
+                }
+                // Rolled back or lost: stop waiting for the missing ids
+                position = seenAhead.first() - 1;
+                gapSince = 0;
+            }
+        }
+    }
+
+    public void subscribe(String cacheName, CacheInvalidationListener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Tells the other instances that {@code key} of {@code cacheName} changed. The local
+     * cache is expected to have been updated by the caller already.
+     */
+    public void publish(String cacheName, String key, String payload) {
+        cacheInvalidationRepository.save(
+                new CacheInvalidation(null, cacheName, key, payload, instanceId, LocalDateTime.now()));
+    }
+
+    // Started when the context is refreshed, as @Scheduled methods are, so the cursors are
+    // placed before the caches load on ApplicationReadyEvent
+    @EventListener(ContextRefreshedEvent.class)
+    public synchronized void startPolling() {
+        if (!polling) {
+            polling = true;
+            poller.scheduleWithFixedDelay(this::poll, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stopPolling() {
+        poller.shutdownNow();
+    }
+
+    public void poll() {
+        for (Long source : sources()) {
+            try {
+                HotelContext.callAs(source, () -> {
+                    poll(source);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                log.warn("Could not poll cache invalidations of datasource {}", source == null ? "default" : source, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.prune-interval-ms:600000}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        for (Long source : sources()) {
+            HotelContext.callAs(source, () -> cacheInvalidationRepository.deleteOlderThan(cutoff));
+        }
+    }
+
+    private void poll(Long source) {
+        Cursor cursor = cursors.get(source);
+        if (cursor == null) {
+            // Caches start empty, so only changes from now on matter
+            cursors.put(source, new Cursor(cacheInvalidationRepository.findMaxId()));
+            return;
+        }
+
+        List<CacheInvalidation> changes = cacheInvalidationRepository
+                .findByIdGreaterThanOrderByIdAsc(cursor.position, PageRequest.of(0, batchSize));
+        for (CacheInvalidation change : changes) {
+            if (cursor.seenAhead.add(change.getId()) && !instanceId.equals(change.getOrigin())) {
+                dispatch(change);
+            }
+        }
+        cursor.advance(TimeUnit.MILLISECONDS.toNanos(gapTimeoutMs));
+    }
+
+    private void dispatch(CacheInvalidation change) {
+        for (CacheInvalidationListener listener : listeners.getOrDefault(change.getCacheName(), List.of())) {
+            try {
+                listener.onInvalidation(change.getCacheKey(), change.getPayload());
+            } catch (RuntimeException e) {
+                log.warn("Cache listener failed for {} {}", change.getCacheName(), change.getCacheKey(), e);
+            }
+        }
+    }
+
+    private List<Long> sources() {
+        List<Long> sources = new ArrayList<>();
+        sources.add(null);
+        sources.addAll(hotelDataSourceProperties.getDatasources().keySet());
+        return sources;
+    }
+}
@@ -1,5 +1,6 @@
 package com.hotel.management.service;
 
+import com.hotel.management.config.HotelContext;
 import com.hotel.management.repository.RoomRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -14,8 +15,9 @@ public class ChatbotService {
         String lowerCaseMessage = message.toLowerCase();
 
         if (lowerCaseMessage.contains("available") || lowerCaseMessage.contains("rooms") || lowerCaseMessage.contains("how many")) {
-            long availableRooms = roomRepository.countByIsAvailableTrue();
-            long totalRooms = roomRepository.count();
+            Long hotelId = HotelContext.getHotelId();
+            long availableRooms = roomRepository.countByHotelIdAndIsAvailableTrue(hotelId);
+            long totalRooms = roomRepository.countByHotelId(hotelId);
             
             if (availableRooms > 0) {
                 return String.format("We currently have %d rooms available out of %d total rooms. You can view and book available rooms on our booking page. Would you like me to help you with anything else?", availableRooms, totalRooms);
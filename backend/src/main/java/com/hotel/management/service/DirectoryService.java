@@ -0,0 +1,127 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.entity.Booking;
+import com.hotel.management.entity.Hotel;
+import com.hotel.management.entity.Room;
+import com.hotel.management.entity.User;
+import com.hotel.management.repository.HotelRepository;
+import com.hotel.management.repository.UserRepository;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the hotel and user directory, which always lives in the default datasource,
+ * while rooms and bookings may live in a hotel's dedicated one. Rooms and bookings
+ * load their hotel and user as bare references, and the lists handed to callers are
+ * resolved here, so no query ever joins across databases. Reads run in their own
+ * transaction, so they reach the default datasource even when called from inside a
+ * hotel's transaction.
+ */
+@Service
+public class DirectoryService {
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Hotels are only ever added, so entries never go stale
+    private final Map<Long, Hotel> hotels = new ConcurrentHashMap<>();
+
+    private final TransactionTemplate directoryTransaction;
+
+    public DirectoryService(PlatformTransactionManager transactionManager) {
+        this.directoryTransaction = new TransactionTemplate(transactionManager);
+        this.directoryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.directoryTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadHotels() {
+        read(() -> hotelRepository.findAll()).forEach(hotel -> hotels.put(hotel.getId(), hotel));
+    }
+
+    public Optional<Hotel> findHotel(Long hotelId) {
+        Hotel hotel = hotels.get(hotelId);
+        if (hotel == null) {
+            hotel = read(() -> hotelRepository.findById(hotelId)).orElse(null);
+            if (hotel != null) {
+                hotels.put(hotelId, hotel);
+            }
+        }
+        return Optional.ofNullable(hotel);
+    }
+
+    public Optional<User> findUserByEmail(String email) {
+        return read(() -> userRepository.findByEmail(email));
+    }
+
+    public Map<Long, User> findUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return read(() -> userRepository.findAllById(userIds)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    public Room resolve(Room room) {
+        if (room != null && room.getHotel() != null && !Hibernate.isInitialized(room.getHotel())) {
+            room.setHotel(findHotel(room.getHotel().getId()).orElse(null));
+        }
+        return room;
+    }
+
+    public List<Room> resolveRooms(List<Room> rooms) {
+        rooms.forEach(this::resolve);
+        return rooms;
+    }
+
+    public Booking resolve(Booking booking) {
+        return resolveBookings(List.of(booking)).get(0);
+    }
+
+    /**
+     * Replaces the hotel, user and room hotel references of the bookings with directory
+     * entries, loading all missing users with one query.
+     */
+    public List<Booking> resolveBookings(List<Booking> bookings) {
+        Set<Long> userIds = bookings.stream()
+                .map(Booking::getUser)
+                .filter(user -> user != null && !Hibernate.isInitialized(user))
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        Map<Long, User> users = findUsers(userIds);
+        for (Booking booking : bookings) {
+            if (booking.getHotel() != null && !Hibernate.isInitialized(booking.getHotel())) {
+                booking.setHotel(findHotel(booking.getHotel().getId()).orElse(null));
+            }
+            if (booking.getUser() != null && !Hibernate.isInitialized(booking.getUser())) {
+                booking.setUser(users.get(booking.getUser().getId()));
+            }
+            resolve(booking.getRoom());
+        }
+        return bookings;
+    }
+
+    private <T> T read(Supplier<T> query) {
+        return HotelContext.callAs(null, () -> directoryTransaction.execute(status -> query.get()));
+    }
+}
@@ -0,0 +1,206 @@
+package com.hotel.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.config.HotelDataSourceProperties;
+import com.hotel.management.dto.BookingExportRow;
+import com.hotel.management.dto.RoomExportRow;
+import com.hotel.management.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes bookings and rooms to a response as CSV or NDJSON as the database streams them.
+ * Rows are read as unmanaged projections and written one at a time, so memory use does
+ * not grow with the number of rows; the read-only transaction lasts exactly as long as
+ * the result is open. The fetch size is set per query: MySQL Connector/J only streams
+ * rows with {@code Integer.MIN_VALUE}, which other drivers reject.
+ *
+ * A streaming connection can run nothing else until the result is closed. For hotels on
+ * the default datasource the users are therefore joined into the streamed query; looking
+ * them up on a second connection from the same pool would let a few concurrent exports
+ * hold every connection while each waits for another. Hotels on a dedicated datasource
+ * stream from their own pool and look the users up in the directory a chunk at a time,
+ * each lookup briefly borrowing a default connection.
+ */
+@Service
+public class ExportService {
+
+    private static final String[] BOOKING_COLUMNS =
+            {"bookingId", "roomId", "roomNumber", "roomType", "userEmail", "checkInDate", "checkOutDate", "archived"};
+    private static final String[] ROOM_COLUMNS = {"roomId", "roomNumber", "type", "price", "available"};
+
+    // Either bound may be null; rooms of archived bookings may have been deleted since
+    private static final String BOOKING_RANGE = "where b.hotel.id = :hotelId " +
+            "and (:from is null or b.checkOutDate >= :from) and (:to is null or b.checkInDate <= :to) order by b.id";
+    private static final String BOOKINGS_QUERY = "select new com.hotel.management.dto.BookingExportRow(" +
+            "b.id, r.id, r.roomNumber, r.type, b.user.id, b.checkInDate, b.checkOutDate, false) " +
+            "from Booking b join b.room r " + BOOKING_RANGE;
+    private static final String ARCHIVED_BOOKINGS_QUERY = "select new com.hotel.management.dto.BookingExportRow(" +
+            "b.id, r.id, r.roomNumber, r.type, b.user.id, b.checkInDate, b.checkOutDate, true) " +
+            "from ArchivedBooking b left join b.room r " + BOOKING_RANGE;
+    private static final String BOOKINGS_WITH_USERS_QUERY = "select new com.hotel.management.dto.BookingExportRow(" +
+            "b.id, r.id, r.roomNumber, r.type, u.id, u.email, b.checkInDate, b.checkOutDate, false) " +
+            "from Booking b join b.room r left join b.user u " + BOOKING_RANGE;
+    private static final String ARCHIVED_BOOKINGS_WITH_USERS_QUERY = "select new com.hotel.management.dto.BookingExportRow(" +
+            "b.id, r.id, r.roomNumber, r.type, u.id, u.email, b.checkInDate, b.checkOutDate, true) " +
+            "from ArchivedBooking b left join b.room r left join b.user u " + BOOKING_RANGE;
+    private static final String ROOMS_QUERY = "select new com.hotel.management.dto.RoomExportRow(" +
+            "r.id, r.roomNumber, r.type, r.price, r.isAvailable) from Room r where r.hotel.id = :hotelId order by r.id";
+
+    private static final int USER_CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private DirectoryService directoryService;
+
+    @Autowired
+    private BookingArchiveService bookingArchiveService;
+
+    @Autowired
+    private HotelDataSourceProperties hotelDataSourceProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.exports.fetch-size:" + Integer.MIN_VALUE + "}")
+    private int fetchSize;
+
+    /**
+     * Bookings overlapping [from, to], either bound optional. Archived bookings follow
+     * the live ones when the range reaches back past the archive retention window.
+     */
+    @Transactional(readOnly = true)
+    public void exportBookings(LocalDate from, LocalDate to, ExportFormat format, Writer writer) throws IOException {
+        Long hotelId = HotelContext.getHotelId();
+        boolean joinUsers = !hotelDataSourceProperties.getDatasources().containsKey(hotelId);
+        writeHeader(format, BOOKING_COLUMNS, writer);
+        try (Stream<BookingExportRow> rows = streamBookings(
+                joinUsers ? BOOKINGS_WITH_USERS_QUERY : BOOKINGS_QUERY, hotelId, from, to)) {
+            writeBookings(rows, joinUsers, format, writer);
+        }
+        if (from == null || bookingArchiveService.reachesArchive(from)) {
+            try (Stream<BookingExportRow> rows = streamBookings(
+                    joinUsers ? ARCHIVED_BOOKINGS_WITH_USERS_QUERY : ARCHIVED_BOOKINGS_QUERY, hotelId, from, to)) {
+                writeBookings(rows, joinUsers, format, writer);
+            }
+        }
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportRooms(ExportFormat format, Writer writer) throws IOException {
+        writeHeader(format, ROOM_COLUMNS, writer);
+        try (Stream<RoomExportRow> rows = entityManager.createQuery(ROOMS_QUERY, RoomExportRow.class)
+                .setParameter("hotelId", HotelContext.getHotelId())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()) {
+            writeRows(rows.iterator(), format, this::roomValues, writer);
+        }
+        writer.flush();
+    }
+
+    private Stream<BookingExportRow> streamBookings(String query, Long hotelId, LocalDate from, LocalDate to) {
+        return entityManager.createQuery(query, BookingExportRow.class)
+                .setParameter("hotelId", hotelId)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    // Without joined users, the directory is read on a default connection while the hotel's rows stream
+    private void writeBookings(Stream<BookingExportRow> rows, boolean usersJoined, ExportFormat format,
+                               Writer writer) throws IOException {
+        Iterator<BookingExportRow> iterator = rows.iterator();
+        if (usersJoined) {
+            writeRows(iterator, format, this::bookingValues, writer);
+            return;
+        }
+        List<BookingExportRow> chunk = new ArrayList<>(USER_CHUNK_SIZE);
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == USER_CHUNK_SIZE || !iterator.hasNext()) {
+                Map<Long, User> users = directoryService.findUsers(chunk.stream()
+                        .map(BookingExportRow::getUserId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()));
+                for (BookingExportRow row : chunk) {
+                    User user = users.get(row.getUserId());
+                    row.setUserEmail(user != null ? user.getEmail() : null);
+                }
+                writeRows(chunk.iterator(), format, this::bookingValues, writer);
+                chunk.clear();
+            }
+        }
+    }
+
+    private Object[] bookingValues(BookingExportRow row) {
+        return new Object[]{row.getBookingId(), row.getRoomId(), row.getRoomNumber(), row.getRoomType(),
+                row.getUserEmail(), row.getCheckInDate(), row.getCheckOutDate(), row.isArchived()};
+    }
+
+    private Object[] roomValues(RoomExportRow row) {
+        return new Object[]{row.getRoomId(), row.getRoomNumber(), row.getType(), row.getPrice(), row.isAvailable()};
+    }
+
+    private void writeHeader(ExportFormat format, String[] columns, Writer writer) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(columns, writer);
+        }
+    }
+
+    private <T> void writeRows(Iterator<T> rows, ExportFormat format, Function<T, Object[]> values,
+                               Writer writer) throws IOException {
+        while (rows.hasNext()) {
+            T row = rows.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(values.apply(row), writer);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void writeCsvLine(Object[] values, Writer writer) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,79 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.dto.HotelReport;
+import com.hotel.management.dto.HotelReportSummary;
+import com.hotel.management.entity.Hotel;
+import com.hotel.management.repository.BookingRepository;
+import com.hotel.management.repository.HotelRepository;
+import com.hotel.management.repository.RoomRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class HotelService {
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private final ExecutorService reportExecutor;
+
+    public HotelService(@Value("${app.hotels.report-threads:4}") int reportThreads) {
+        this.reportExecutor = Executors.newFixedThreadPool(reportThreads);
+    }
+
+    // The hotel directory always lives in the default datasource.
+    public List<Hotel> getAllHotels() {
+        return HotelContext.callAs(null, () -> hotelRepository.findAll());
+    }
+
+    // Always inserts: DirectoryService caches hotels on every instance on the basis that
+    // existing ones never change, so a body carrying an id must not update one
+    public Hotel addHotel(Hotel hotel) {
+        hotel.setId(null);
+        return HotelContext.callAs(null, () -> hotelRepository.save(hotel));
+    }
+
+    /**
+     * Builds one report per hotel in parallel, each on its own thread bound to that
+     * hotel so the queries run against the hotel's own datasource, then merges them.
+     */
+    public HotelReportSummary getReport() {
+        List<CompletableFuture<HotelReport>> futures = getAllHotels().stream()
+                .map(hotel -> CompletableFuture.supplyAsync(
+                        () -> HotelContext.callAs(hotel.getId(), () -> buildReport(hotel)), reportExecutor))
+                .toList();
+
+        HotelReportSummary summary = new HotelReportSummary();
+        futures.forEach(future -> summary.add(future.join()));
+        return summary;
+    }
+
+    private HotelReport buildReport(Hotel hotel) {
+        Long hotelId = hotel.getId();
+        return new HotelReport(
+                hotelId,
+                hotel.getName(),
+                roomRepository.countByHotelId(hotelId),
+                roomRepository.countByHotelIdAndIsAvailableTrue(hotelId),
+                bookingRepository.countByHotelId(hotelId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reportExecutor.shutdown();
+    }
+}
@@ -0,0 +1,8 @@
+package com.hotel.management.service;
+
+public class RoomNotAvailableException extends RuntimeException {
+
+    public RoomNotAvailableException() {
+        super("Room not available");
+    }
+}
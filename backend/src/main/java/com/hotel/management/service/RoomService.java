@@ -1,5 +1,8 @@
 package com.hotel.management.service;
 
+import com.hotel.management.audit.AuditAction;
+import com.hotel.management.audit.AuditLog;
+import com.hotel.management.config.HotelContext;
 import com.hotel.management.entity.Room;
 import com.hotel.management.repository.RoomRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,32 +17,52 @@ public class RoomService {
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private DirectoryService directoryService;
+
+    @Autowired
+    private RoomSuggestionIndex roomSuggestionIndex;
+
+    @Autowired
+    private AuditLog auditLog;
+
     public List<Room> getAllRooms() {
-        return roomRepository.findAll();
+        return directoryService.resolveRooms(roomRepository.findByHotelId(HotelContext.getHotelId()));
     }
 
     public Optional<Room> getRoomById(Long id) {
-        return roomRepository.findById(id);
+        return roomRepository.findByIdAndHotelId(id, HotelContext.getHotelId()).map(directoryService::resolve);
     }
 
     public Room addRoom(Room room) {
-        return roomRepository.save(room);
+        room.setHotel(directoryService.findHotel(HotelContext.getHotelId())
+                .orElseThrow(() -> new RuntimeException("Hotel not found")));
+        Room saved = roomRepository.save(room);
+        roomSuggestionIndex.roomSaved(saved);
+        auditLog.record(AuditAction.ROOM_ADDED, HotelContext.getHotelId(), saved.getId(), null);
+        return saved;
     }
 
     public Room updateRoom(Long id, Room roomDetails) {
-        Room room = roomRepository.findById(id).orElseThrow(() -> new RuntimeException("Room not found"));
+        Room room = getRoomById(id).orElseThrow(() -> new RuntimeException("Room not found"));
         room.setRoomNumber(roomDetails.getRoomNumber());
         room.setType(roomDetails.getType());
         room.setPrice(roomDetails.getPrice());
         room.setAvailable(roomDetails.isAvailable());
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        roomSuggestionIndex.roomSaved(saved);
+        auditLog.record(AuditAction.ROOM_UPDATED, HotelContext.getHotelId(), id, null);
+        return saved;
     }
 
     public void deleteRoom(Long id) {
-        roomRepository.deleteById(id);
+        Room room = getRoomById(id).orElseThrow(() -> new RuntimeException("Room not found"));
+        roomRepository.delete(room);
+        roomSuggestionIndex.roomDeleted(HotelContext.getHotelId(), id);
+        auditLog.record(AuditAction.ROOM_DELETED, HotelContext.getHotelId(), id, null);
     }
 
     public List<Room> getAvailableRooms() {
-        return roomRepository.findByIsAvailable(true);
+        return directoryService.resolveRooms(roomRepository.findByHotelIdAndIsAvailable(HotelContext.getHotelId(), true));
     }
 }
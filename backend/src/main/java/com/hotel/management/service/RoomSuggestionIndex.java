@@ -0,0 +1,315 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.dto.BookingRejectionResponse;
+import com.hotel.management.dto.RoomSuggestion;
+import com.hotel.management.entity.Hotel;
+import com.hotel.management.entity.Room;
+import com.hotel.management.repository.BookingRepository;
+import com.hotel.management.repository.RoomRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of each hotel's rooms, grouped by type and sorted by price, used to
+ * suggest alternatives when a booking is rejected without touching the database. All
+ * hotels are loaded once the application is ready; a hotel added later is loaded by its
+ * first rejection. Added, changed and removed rooms replace just their own entry, and
+ * bookings and releases update availability in place, once their transaction has
+ * committed. Every change is published to the other instances through
+ * {@link CacheInvalidationService}, which reload only that room.
+ */
+@Service
+public class RoomSuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomSuggestionIndex.class);
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Value("${app.bookings.suggestions.max-alternatives:3}")
+    private int maxAlternatives;
+
+    // Alternatives may differ from the requested room's price by at most this fraction
+    @Value("${app.bookings.suggestions.price-tolerance:0.25}")
+    private double priceTolerance;
+
+    // Changes are applied under the hotel's map entry; they never query the database there
+    private final Map<Long, HotelRooms> hotels = new ConcurrentHashMap<>();
+    // Changes to hotels that were not loaded, so a snapshot loaded meanwhile is known to be stale
+    private final Map<Long, Long> missedChanges = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        private final Room room;
+        private final int position;
+        private volatile boolean available;
+        private volatile LocalDate bookedUntil;
+
+        private Entry(Room room, int position, boolean available, LocalDate bookedUntil) {
+            this.room = room;
+            this.position = position;
+            this.available = available;
+            this.bookedUntil = bookedUntil;
+        }
+    }
+
+    private record HotelRooms(Map<String, Entry[]> byType, Map<Long, Entry> byId) {
+    }
+
+    public BookingRejectionResponse suggest(Long hotelId, Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        BookingRejectionResponse response = new BookingRejectionResponse("Room not available", new ArrayList<>(), null);
+        HotelRooms rooms = hotels.get(hotelId);
+        if (rooms == null) {
+            rooms = loadHotel(hotelId);
+        }
+        Entry requested = rooms.byId().get(roomId);
+        if (requested == null) {
+            return response;
+        }
+
+        BigDecimal price = requested.room.getPrice();
+        if (price != null) {
+            Entry[] sameType = rooms.byType().get(String.valueOf(requested.room.getType()));
+            BigDecimal maxDelta = price.multiply(BigDecimal.valueOf(priceTolerance));
+            int left = requested.position - 1;
+            int right = requested.position + 1;
+            while (response.getAlternatives().size() < maxAlternatives) {
+                BigDecimal leftDelta = delta(sameType, left, price, maxDelta);
+                BigDecimal rightDelta = delta(sameType, right, price, maxDelta);
+                if (leftDelta == null && rightDelta == null) {
+                    break;
+                }
+                Entry candidate;
+                if (rightDelta == null || (leftDelta != null && leftDelta.compareTo(rightDelta) <= 0)) {
+                    candidate = sameType[left--];
+                } else {
+                    candidate = sameType[right++];
+                }
+                if (candidate.available) {
+                    response.getAlternatives().add(toSuggestion(candidate.room, checkInDate, checkOutDate));
+                }
+            }
+        }
+
+        LocalDate bookedUntil = requested.bookedUntil;
+        if (bookedUntil != null && checkInDate != null && checkOutDate != null && bookedUntil.isAfter(checkInDate)) {
+            long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+            response.setShiftedDates(toSuggestion(requested.room, bookedUntil, bookedUntil.plusDays(nights)));
+        }
+        return response;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationService.subscribe(CacheInvalidationService.ROOMS, (key, payload) -> {
+            // payload: roomId
+            Long hotelId = Long.valueOf(key);
+            Long roomId = Long.valueOf(payload);
+            Room room = HotelContext.callAs(hotelId, () -> roomRepository.findByIdAndHotelId(roomId, hotelId)).orElse(null);
+            applyRoom(hotelId, roomId, room);
+        });
+        cacheInvalidationService.subscribe(CacheInvalidationService.ROOM_AVAILABILITY, (key, payload) -> {
+            // payload: roomId,available,checkOutDate
+            String[] fields = payload.split(",", -1);
+            applyAvailability(Long.valueOf(key), Long.valueOf(fields[0]), Boolean.parseBoolean(fields[1]),
+                    fields[2].isEmpty() ? null : LocalDate.parse(fields[2]));
+        });
+    }
+
+    public void roomBooked(Room room, LocalDate checkOutDate) {
+        changeAvailability(room, false, checkOutDate);
+    }
+
+    public void roomReleased(Room room) {
+        changeAvailability(room, true, null);
+    }
+
+    public void roomReleased(Long hotelId, Long roomId) {
+        changeAvailability(hotelId, roomId, true, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadHotels() {
+        for (Hotel hotel : hotelService.getAllHotels()) {
+            try {
+                loadHotel(hotel.getId());
+            } catch (RuntimeException e) {
+                log.warn("Could not load the rooms of hotel {} for suggestions", hotel.getCode(), e);
+            }
+        }
+    }
+
+    public void roomSaved(Room room) {
+        Long hotelId = room.getHotel().getId();
+        afterCommit(() -> applyRoom(hotelId, room.getId(), room));
+        cacheInvalidationService.publish(CacheInvalidationService.ROOMS, String.valueOf(hotelId),
+                String.valueOf(room.getId()));
+    }
+
+    public void roomDeleted(Long hotelId, Long roomId) {
+        afterCommit(() -> applyRoom(hotelId, roomId, null));
+        cacheInvalidationService.publish(CacheInvalidationService.ROOMS, String.valueOf(hotelId),
+                String.valueOf(roomId));
+    }
+
+    private void changeAvailability(Room room, boolean available, LocalDate checkOutDate) {
+        if (room.getHotel() == null) {
+            return;
+        }
+        changeAvailability(room.getHotel().getId(), room.getId(), available, checkOutDate);
+    }
+
+    private void changeAvailability(Long hotelId, Long roomId, boolean available, LocalDate checkOutDate) {
+        afterCommit(() -> applyAvailability(hotelId, roomId, available, checkOutDate));
+        cacheInvalidationService.publish(CacheInvalidationService.ROOM_AVAILABILITY, String.valueOf(hotelId),
+                roomId + "," + available + "," + (checkOutDate != null ? checkOutDate : ""));
+    }
+
+    // The published row commits or rolls back with the change; the local entry must do the same
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private void applyAvailability(Long hotelId, Long roomId, boolean available, LocalDate checkOutDate) {
+        change(hotelId, rooms -> {
+            Entry entry = rooms.byId().get(roomId);
+            if (entry != null) {
+                entry.available = available;
+                if (available) {
+                    entry.bookedUntil = null;
+                } else if (checkOutDate != null
+                        && (entry.bookedUntil == null || checkOutDate.isAfter(entry.bookedUntil))) {
+                    entry.bookedUntil = checkOutDate;
+                }
+            }
+            return rooms;
+        });
+    }
+
+    // Re-sorts the hotel's entries with the room replaced, or removed when room is null
+    private void applyRoom(Long hotelId, Long roomId, Room room) {
+        change(hotelId, rooms -> {
+            List<Entry> entries = new ArrayList<>(rooms.byId().size() + 1);
+            rooms.byId().forEach((id, entry) -> {
+                if (!id.equals(roomId)) {
+                    entries.add(entry);
+                }
+            });
+            if (room != null) {
+                Entry previous = rooms.byId().get(roomId);
+                entries.add(new Entry(room, -1, room.isAvailable(), previous != null ? previous.bookedUntil : null));
+            }
+            return index(entries);
+        });
+    }
+
+    private void change(Long hotelId, UnaryOperator<HotelRooms> update) {
+        hotels.compute(hotelId, (id, rooms) -> {
+            if (rooms == null) {
+                missedChanges.merge(id, 1L, Long::sum);
+                return null;
+            }
+            return update.apply(rooms);
+        });
+    }
+
+    /**
+     * Loads the hotel's rooms on the calling thread, outside the map's locks. If a change
+     * to the hotel arrived meanwhile, the snapshot may predate it: it serves this call
+     * but is not kept, so the next rejection loads again.
+     */
+    private HotelRooms loadHotel(Long hotelId) {
+        long missed = missedChanges.getOrDefault(hotelId, 0L);
+        HotelRooms loaded = HotelContext.callAs(hotelId, () -> load(hotelId));
+        HotelRooms current = hotels.compute(hotelId, (id, rooms) -> {
+            if (rooms != null) {
+                return rooms;
+            }
+            return missedChanges.getOrDefault(id, 0L) == missed ? loaded : null;
+        });
+        return current != null ? current : loaded;
+    }
+
+    // Price distance of the candidate at index, or null when out of range or too far off
+    private static BigDecimal delta(Entry[] entries, int index, BigDecimal price, BigDecimal maxDelta) {
+        if (index < 0 || index >= entries.length || entries[index].room.getPrice() == null) {
+            return null;
+        }
+        BigDecimal delta = entries[index].room.getPrice().subtract(price).abs();
+        return delta.compareTo(maxDelta) <= 0 ? delta : null;
+    }
+
+    private HotelRooms load(Long hotelId) {
+        Map<Long, LocalDate> bookedUntil = new HashMap<>();
+        for (Object[] row : bookingRepository.findLatestCheckOutDatePerRoom(hotelId, LocalDate.now())) {
+            bookedUntil.put((Long) row[0], (LocalDate) row[1]);
+        }
+        return index(roomRepository.findByHotelId(hotelId).stream()
+                .map(room -> new Entry(room, -1, room.isAvailable(), bookedUntil.get(room.getId())))
+                .toList());
+    }
+
+    // Fresh entries with positions in their type's price order; availability is carried over
+    private static HotelRooms index(List<Entry> entries) {
+        Map<String, List<Entry>> grouped = entries.stream()
+                .collect(Collectors.groupingBy(entry -> String.valueOf(entry.room.getType())));
+        Map<String, Entry[]> byType = new HashMap<>();
+        Map<Long, Entry> byId = new HashMap<>();
+        grouped.forEach((type, group) -> {
+            List<Entry> sorted = new ArrayList<>(group);
+            sorted.sort(Comparator.comparing(entry -> entry.room.getPrice(),
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+            Entry[] indexed = new Entry[sorted.size()];
+            for (int i = 0; i < indexed.length; i++) {
+                Entry entry = sorted.get(i);
+                indexed[i] = new Entry(entry.room, i, entry.available, entry.bookedUntil);
+                byId.put(entry.room.getId(), indexed[i]);
+            }
+            byType.put(type, indexed);
+        });
+        return new HotelRooms(byType, byId);
+    }
+
+    private static RoomSuggestion toSuggestion(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        return new RoomSuggestion(room.getId(), room.getRoomNumber(), room.getType(), room.getPrice(),
+                checkInDate, checkOutDate);
+    }
+}
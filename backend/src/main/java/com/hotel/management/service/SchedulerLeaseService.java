@@ -0,0 +1,49 @@
+package com.hotel.management.service;
+
+import com.hotel.management.repository.SchedulerLeaseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Database leases for scheduled jobs that must run on one instance at a time. A lease
+ * is taken with a conditional update in the current datasource and has to be renewed
+ * before it runs out; once it expires another instance may take it over.
+ */
+@Service
+public class SchedulerLeaseService {
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * Takes or renews the lease for {@code duration}, returning false while another
+     * instance holds it.
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(duration);
+        if (schedulerLeaseRepository.tryAcquire(name, instanceId, now, until) > 0) {
+            return true;
+        }
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            return schedulerLeaseRepository.create(name, instanceId, until) > 0;
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created it first
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        schedulerLeaseRepository.release(name, instanceId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,137 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.entity.RevokedToken;
+import com.hotel.management.repository.RevokedTokenRepository;
+import com.hotel.management.util.BloomFilter;
+import com.hotel.management.util.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Persists revoked tokens and keeps an in-memory Bloom filter of them, so the
+ * per-request check only reaches the database for filter hits. The filter is rebuilt
+ * periodically off to the side and swapped in, which drops pruned entries.
+ * Revocations made on other instances arrive through {@link CacheInvalidationService}.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final String USER_PREFIX = "user:";
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Value("${app.jwt.revocation.expected-entries:100000}")
+    private long expectedEntries;
+
+    @Value("${app.jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Null until the first build; checks go straight to the database until then
+    private volatile BloomFilter filter;
+
+    public void revokeToken(Claims claims) {
+        save(claims.getId(), toLocalDateTime(claims.getExpiration()));
+    }
+
+    public void revokeUser(String email) {
+        save(USER_PREFIX + email, LocalDateTime.now().plusNanos(tokenProvider.getJwtExpiration() * 1_000_000));
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        if (tokenId != null && mightContain(tokenId) && exists(tokenId)) {
+            return true;
+        }
+        String userKey = USER_PREFIX + claims.getSubject();
+        if (mightContain(userKey)) {
+            Optional<RevokedToken> userRevocation = HotelContext.callAs(null, () -> revokedTokenRepository.findById(userKey));
+            return userRevocation.isPresent()
+                    && !toLocalDateTime(claims.getIssuedAt()).isAfter(userRevocation.get().getRevokedAt());
+        }
+        return false;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationService.subscribe(CacheInvalidationService.REVOKED_TOKENS, (key, payload) -> {
+            BloomFilter current = filter;
+            if (current != null) {
+                current.put(key);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.refresh-ms:60000}",
+            initialDelayString = "${app.jwt.revocation.refresh-ms:60000}")
+    public void pruneAndRebuild() {
+        revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        rebuild();
+    }
+
+    private void rebuild() {
+        LocalDateTime started = LocalDateTime.now();
+        BloomFilter rebuilt = new BloomFilter(expectedEntries, falsePositiveRate);
+        revokedTokenRepository.findAllIds().forEach(rebuilt::put);
+        // Revocations committed while the snapshot was loading went to the old filter only,
+        // so they are replayed before the swap lets unchecked requests through the new one
+        LocalDateTime replayed = LocalDateTime.now();
+        replayRevokedSince(rebuilt, started);
+        filter = rebuilt;
+        // And those that slipped into the old filter during the replay
+        replayRevokedSince(rebuilt, replayed);
+    }
+
+    // revokedAt is stamped before commit and on whichever instance revoked; the margin covers both
+    private void replayRevokedSince(BloomFilter target, LocalDateTime since) {
+        revokedTokenRepository.findIdsRevokedSince(since.minusSeconds(5)).forEach(target::put);
+    }
+
+    private void save(String id, LocalDateTime expiresAt) {
+        HotelContext.callAs(null, () -> {
+            revokedTokenRepository.save(new RevokedToken(id, LocalDateTime.now(), expiresAt));
+            cacheInvalidationService.publish(CacheInvalidationService.REVOKED_TOKENS, id, null);
+            return null;
+        });
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(id);
+        }
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(key);
+    }
+
+    private boolean exists(String id) {
+        return HotelContext.callAs(null, () -> revokedTokenRepository.existsById(id));
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
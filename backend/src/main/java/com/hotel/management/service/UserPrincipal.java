@@ -0,0 +1,24 @@
+package com.hotel.management.service;
+
+import com.hotel.management.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+
+/**
+ * Authenticated principal that carries the loaded {@link User}, so controllers don't
+ * have to look the user up again by email.
+ */
+@Getter
+public class UserPrincipal extends org.springframework.security.core.userdetails.User {
+
+    private final User user;
+
+    public UserPrincipal(User user) {
+        super(user.getEmail(),
+                user.getPassword(),
+                Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name())));
+        this.user = user;
+    }
+}
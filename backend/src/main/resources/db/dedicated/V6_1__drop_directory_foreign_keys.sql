@@ -0,0 +1,5 @@
+-- Only run on hotels' dedicated databases: hotels and users live in the default
+-- database, so rooms and bookings here cannot reference them
+ALTER TABLE bookings DROP FOREIGN KEY fk_bookings_user;
+ALTER TABLE bookings DROP FOREIGN KEY fk_bookings_hotel;
+ALTER TABLE rooms DROP FOREIGN KEY fk_rooms_hotel;
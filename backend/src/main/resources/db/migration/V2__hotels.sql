@@ -0,0 +1,22 @@
+CREATE TABLE hotels (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(255) NOT NULL,
+    name VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_hotels_code UNIQUE (code)
+) ENGINE = InnoDB;
+
+INSERT INTO hotels (id, code, name) VALUES (1, 'MAIN', 'Main Hotel');
+
+ALTER TABLE rooms ADD COLUMN hotel_id BIGINT;
+ALTER TABLE rooms ADD CONSTRAINT fk_rooms_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id);
+
+ALTER TABLE bookings ADD COLUMN hotel_id BIGINT;
+ALTER TABLE bookings ADD CONSTRAINT fk_bookings_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id);
+
+UPDATE rooms SET hotel_id = 1 WHERE hotel_id IS NULL;
+UPDATE bookings SET hotel_id = 1 WHERE hotel_id IS NULL;
+
+CREATE INDEX idx_rooms_hotel_available ON rooms (hotel_id, is_available);
+CREATE INDEX idx_rooms_hotel_number ON rooms (hotel_id, room_number);
+CREATE INDEX idx_bookings_hotel_user ON bookings (hotel_id, user_id);
@@ -0,0 +1,16 @@
+CREATE INDEX idx_bookings_hotel_check_out ON bookings (hotel_id, check_out_date);
+
+-- No foreign keys, so rooms and users can still be removed once their bookings are archived
+CREATE TABLE bookings_archive (
+    id BIGINT NOT NULL,
+    hotel_id BIGINT,
+    user_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    check_in_date DATE,
+    check_out_date DATE,
+    archived_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_bookings_archive_hotel_user ON bookings_archive (hotel_id, user_id, check_out_date);
+CREATE INDEX idx_bookings_archive_hotel_check_out ON bookings_archive (hotel_id, check_out_date);
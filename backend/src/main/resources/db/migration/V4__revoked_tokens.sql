@@ -0,0 +1,9 @@
+CREATE TABLE revoked_tokens (
+    id VARCHAR(255) NOT NULL,
+    revoked_at DATETIME(6),
+    expires_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
@@ -0,0 +1,11 @@
+CREATE TABLE cache_invalidations (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    cache_name VARCHAR(255),
+    cache_key VARCHAR(255),
+    payload VARCHAR(255),
+    origin VARCHAR(255),
+    created_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_cache_invalidations_created_at ON cache_invalidations (created_at);
@@ -0,0 +1,13 @@
+-- Existing bookings start as UPCOMING; the lifecycle job moves them on and releases their rooms
+ALTER TABLE bookings ADD COLUMN status VARCHAR(255) NOT NULL DEFAULT 'UPCOMING';
+
+CREATE INDEX idx_bookings_hotel_status_check_in ON bookings (hotel_id, status, check_in_date);
+CREATE INDEX idx_bookings_hotel_status_check_out ON bookings (hotel_id, status, check_out_date);
+
+-- One row per scheduled job; rows are created on first use
+CREATE TABLE scheduler_leases (
+    name VARCHAR(255) NOT NULL,
+    owner VARCHAR(255),
+    lease_until DATETIME(6),
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
@@ -2,8 +2,11 @@ package com.hotel.management;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
+// The default profile needs a MySQL server; the test profile runs on embedded H2
 @SpringBootTest
+@ActiveProfiles("test")
 class HotelManagementSystemApplicationTests {
 
 	@Test
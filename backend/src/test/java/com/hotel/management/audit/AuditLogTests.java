@@ -0,0 +1,191 @@
+package com.hotel.management.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.Mac;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditLogTests {
+
+    private static final String KEY = "audit-test-key";
+
+    // Long enough that a 1 MB segment holds under two thousand records
+    private static final String ACTOR = "guest-".repeat(80) + "@hotel.com";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void ringBufferDeliversEveryEventInProducerOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 10_000;
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    AuditEvent event = new AuditEvent(i, AuditAction.BOOKING_CREATED, producer, i, -1, null);
+                    while (!ringBuffer.offer(event)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        long[] next = new long[producers];
+        int received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            AuditEvent event = ringBuffer.poll();
+            if (event == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = (int) event.hotelId();
+            assertEquals(next[producer]++, event.roomId());
+            received++;
+        }
+        executor.shutdownNow();
+
+        assertEquals(producers * perProducer, received);
+        assertNull(ringBuffer.poll());
+    }
+
+    @Test
+    void rollsOverToNewSegments() throws IOException {
+        AuditLog auditLog = start();
+        for (int i = 0; i < 5000; i++) {
+            auditLog.record(AuditAction.BOOKING_CREATED, 1L, (long) i, (long) i, ACTOR);
+        }
+        auditLog.stop();
+
+        assertTrue(AuditSegments.list(directory).size() >= 3);
+        List<AuditRecord> records = new AuditLogReader(directory, KEY).scan(null, null, null, null, Integer.MAX_VALUE);
+        assertEquals(5000, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(i + 1, records.get(i).getSequence());
+            assertEquals(i, records.get(i).getRoomId());
+            assertTrue(records.get(i).isVerified());
+        }
+    }
+
+    @Test
+    void recoversFromTornTailInNewSegment() throws IOException {
+        AuditLog auditLog = start();
+        for (int i = 0; i < 3; i++) {
+            auditLog.record(AuditAction.ROOM_UPDATED, 1L, (long) i, null, ACTOR);
+        }
+        auditLog.stop();
+        Path torn = AuditSegments.list(directory).get(0);
+        List<Integer> offsets = recordOffsets(torn);
+        // Length written, body not: the roomId of the last record never reached the disk
+        editLong(torn, offsets.get(2) + 4 + 8 + 8 + 1 + 8, 0);
+
+        auditLog = start();
+        auditLog.record(AuditAction.ROOM_UPDATED, 1L, 3L, null, ACTOR);
+        auditLog.stop();
+
+        List<Path> segments = AuditSegments.list(directory);
+        assertEquals(List.of(torn, directory.resolve(AuditSegments.fileName(4))), segments);
+        assertEquals(offsets, recordOffsets(torn));
+        List<AuditRecord> records = new AuditLogReader(directory, KEY).scan(null, null, null, null, Integer.MAX_VALUE);
+        assertEquals(List.of(1L, 2L, 3L, 4L), records.stream().map(AuditRecord::getSequence).toList());
+        assertEquals(List.of(true, true, false, true), records.stream().map(AuditRecord::isVerified).toList());
+    }
+
+    @Test
+    void readerFlagsEditedRecord() throws IOException {
+        AuditLog auditLog = start();
+        for (int i = 0; i < 3; i++) {
+            auditLog.record(AuditAction.BOOKING_CANCELLED, 1L, 10L + i, 20L + i, ACTOR);
+        }
+        auditLog.stop();
+        Path segment = AuditSegments.list(directory).get(0);
+        editLong(segment, recordOffsets(segment).get(1) + 4 + 8 + 8 + 1 + 8, 99);
+
+        List<AuditRecord> records = new AuditLogReader(directory, KEY).scan(null, null, null, null, Integer.MAX_VALUE);
+        assertEquals(3, records.size());
+        assertTrue(records.get(0).isVerified());
+        assertFalse(records.get(1).isVerified());
+        assertEquals(99L, records.get(1).getRoomId());
+        assertTrue(records.get(2).isVerified());
+    }
+
+    @Test
+    void readerRejectsChainRecomputedWithoutTheKey() throws IOException {
+        AuditLog auditLog = start();
+        for (int i = 0; i < 3; i++) {
+            auditLog.record(AuditAction.BOOKING_CANCELLED, 1L, 10L + i, 20L + i, ACTOR);
+        }
+        auditLog.stop();
+        Path segment = AuditSegments.list(directory).get(0);
+        List<Integer> offsets = recordOffsets(segment);
+        editLong(segment, offsets.get(1) + 4 + 8 + 8 + 1 + 8, 99);
+
+        // Rewrite every hash from the edited record on, as someone without the key would have to
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            Mac forger = AuditSegments.newMac("guessed-key");
+            byte[] previous = new byte[AuditSegments.HASH_SIZE];
+            buffer.get(offsets.get(1) - AuditSegments.HASH_SIZE, previous);
+            for (int offset : offsets.subList(1, offsets.size())) {
+                int length = buffer.getInt(offset);
+                ByteBuffer body = buffer.slice(offset + 4, length - 4 - AuditSegments.HASH_SIZE);
+                previous = AuditSegments.chain(forger, previous, body);
+                buffer.put(offset + length - AuditSegments.HASH_SIZE, previous);
+            }
+            buffer.force();
+        }
+
+        List<AuditRecord> records = new AuditLogReader(directory, KEY).scan(null, null, null, null, Integer.MAX_VALUE);
+        assertEquals(List.of(true, false, false), records.stream().map(AuditRecord::isVerified).toList());
+    }
+
+    private AuditLog start() {
+        AuditLog auditLog = new AuditLog(directory.toString(), KEY, 1, 50, 365, 1024);
+        auditLog.start();
+        return auditLog;
+    }
+
+    private static List<Integer> recordOffsets(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.position(AuditSegments.HEADER_SIZE);
+            List<Integer> offsets = new ArrayList<>();
+            int length;
+            while ((length = AuditSegments.recordLength(buffer, buffer.capacity())) > 0) {
+                offsets.add(buffer.position());
+                buffer.position(buffer.position() + length);
+            }
+            return offsets;
+        }
+    }
+
+    private static void editLong(Path segment, long offset, long value) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putLong(0, value), offset);
+        }
+    }
+}
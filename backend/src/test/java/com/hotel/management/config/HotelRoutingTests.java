@@ -0,0 +1,127 @@
+package com.hotel.management.config;
+
+import com.hotel.management.entity.Hotel;
+import com.hotel.management.repository.BookingRepository;
+import com.hotel.management.repository.RoomRepository;
+import com.hotel.management.service.HotelService;
+import com.hotel.management.util.JwtTokenProvider;
+import com.jayway.jsonpath.JsonPath;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A hotel routed to its own database: users and the hotel directory stay in the
+ * default database, while the hotel's rooms and bookings are written to its own.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_default;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "app.hotels.datasources.2.url=jdbc:h2:mem:routing_hotel_two;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.hotels.datasources.2.username=sa",
+        "app.hotels.datasources.2.hikari.maximum-pool-size=3",
+        "spring.datasource.hikari.maximum-pool-size=7",
+        "spring.datasource.hikari.connection-timeout=4000",
+        "app.audit.directory=target/audit-routing"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class HotelRoutingTests {
+
+    private static final long ROUTED_HOTEL_ID = 2L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private HotelRoutingDataSource routingDataSource;
+
+    @Test
+    void poolsAreConfiguredPerDatasource() {
+        HikariDataSource defaultPool = (HikariDataSource) routingDataSource.getResolvedDefaultDataSource();
+        HikariDataSource hotelPool = (HikariDataSource) routingDataSource.getResolvedDataSources().get(ROUTED_HOTEL_ID);
+
+        assertEquals(7, defaultPool.getMaximumPoolSize());
+        assertEquals(3, hotelPool.getMaximumPoolSize());
+        assertEquals(4000, hotelPool.getConnectionTimeout());
+        assertEquals("hotel-2", hotelPool.getPoolName());
+    }
+
+    @Test
+    void roomsAndBookingsOfRoutedHotelLiveInItsOwnDatabase() throws Exception {
+        Hotel hotel = hotelService.addHotel(new Hotel(null, "SECOND", "Second Hotel"));
+        assertEquals(ROUTED_HOTEL_ID, hotel.getId());
+        String hotelId = String.valueOf(ROUTED_HOTEL_ID);
+
+        String room = mockMvc.perform(post("/api/rooms")
+                        .header(HotelContextFilter.HOTEL_HEADER, hotelId)
+                        .header("Authorization", bearer("admin@hotel.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"roomNumber\":\"501\",\"type\":\"Suite\",\"price\":300.00,\"available\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hotel.code").value("SECOND"))
+                .andReturn().getResponse().getContentAsString();
+        Number roomId = JsonPath.read(room, "$.id");
+
+        mockMvc.perform(post("/api/bookings")
+                        .header(HotelContextFilter.HOTEL_HEADER, hotelId)
+                        .header("Authorization", bearer("customer@hotel.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"roomId\":%d,\"checkInDate\":\"%s\",\"checkOutDate\":\"%s\"}",
+                                roomId.longValue(), LocalDate.now().plusDays(3), LocalDate.now().plusDays(5))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hotel.code").value("SECOND"));
+
+        mockMvc.perform(get("/api/bookings")
+                        .header(HotelContextFilter.HOTEL_HEADER, hotelId)
+                        .header("Authorization", bearer("admin@hotel.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].user.email").value("customer@hotel.com"))
+                .andExpect(jsonPath("$[0].room.roomNumber").value("501"))
+                .andExpect(jsonPath("$[0].room.hotel.code").value("SECOND"));
+
+        mockMvc.perform(get("/api/exports/bookings")
+                        .header(HotelContextFilter.HOTEL_HEADER, hotelId)
+                        .header("Authorization", bearer("admin@hotel.com"))
+                        .param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userEmail").value("customer@hotel.com"))
+                .andExpect(jsonPath("$.roomNumber").value("501"));
+
+        assertEquals(1, HotelContext.callAs(ROUTED_HOTEL_ID, () -> roomRepository.countByHotelId(ROUTED_HOTEL_ID)));
+        assertEquals(1, HotelContext.callAs(ROUTED_HOTEL_ID, () -> bookingRepository.countByHotelId(ROUTED_HOTEL_ID)));
+        assertEquals(0, HotelContext.callAs(null, () -> roomRepository.countByHotelId(ROUTED_HOTEL_ID)));
+        assertEquals(0, HotelContext.callAs(null, () -> bookingRepository.countByHotelId(ROUTED_HOTEL_ID)));
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + tokenProvider.generateToken(email);
+    }
+}
@@ -0,0 +1,79 @@
+package com.hotel.management.controller;
+
+import com.hotel.management.util.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auth;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.audit.directory=target/audit-auth"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Test
+    void loggedOutTokenIsRejected() throws Exception {
+        String token = tokenProvider.generateToken("customer@hotel.com");
+        String otherSession = tokenProvider.generateToken("customer@hotel.com");
+        expectMyBookings(token, status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        expectMyBookings(token, status().isUnauthorized());
+        expectMyBookings(otherSession, status().isOk());
+    }
+
+    @Test
+    void revokingUserRejectsOnlyEarlierTokens() throws Exception {
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Revoked\",\"email\":\"revoked@hotel.com\",\"password\":\"password\"}"))
+                .andExpect(status().isOk());
+        String earlier = tokenProvider.generateToken("revoked@hotel.com");
+        expectMyBookings(earlier, status().isOk());
+
+        mockMvc.perform(post("/api/auth/revoke")
+                        .header("Authorization", "Bearer " + tokenProvider.generateToken("admin@hotel.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"revoked@hotel.com\"}"))
+                .andExpect(status().isOk());
+        expectMyBookings(earlier, status().isUnauthorized());
+
+        // Tokens carry their issue time in whole seconds; one from the same second counts as earlier
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000 + 50);
+        expectMyBookings(tokenProvider.generateToken("revoked@hotel.com"), status().isOk());
+    }
+
+    @Test
+    void revokeNeedsAdmin() throws Exception {
+        mockMvc.perform(post("/api/auth/revoke")
+                        .header("Authorization", "Bearer " + tokenProvider.generateToken("customer@hotel.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"admin@hotel.com\"}"))
+                .andExpect(status().isForbidden());
+        expectMyBookings(tokenProvider.generateToken("admin@hotel.com"), status().isOk());
+    }
+
+    private void expectMyBookings(String token, ResultMatcher expected) throws Exception {
+        mockMvc.perform(get("/api/bookings/my-bookings").header("Authorization", "Bearer " + token))
+                .andExpect(expected);
+    }
+}
@@ -0,0 +1,110 @@
+package com.hotel.management.querybudget;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+/**
+ * Wraps a {@link DataSource} so that JDBC work done on a thread inside
+ * {@link #record} is counted. Work on other threads (schedulers, report fan-out) is
+ * not attributed to the recording.
+ */
+public final class JdbcCounter {
+
+    private static final ThreadLocal<JdbcCounts> CURRENT = new ThreadLocal<>();
+
+    @FunctionalInterface
+    public interface Work {
+        void run() throws Exception;
+    }
+
+    private JdbcCounter() {
+    }
+
+    public static JdbcCounts record(Work work) throws Exception {
+        JdbcCounts counts = new JdbcCounts();
+        CURRENT.set(counts);
+        try {
+            work.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return counts;
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result) ->
+                result instanceof Connection connection ? wrapConnection(connection) : result);
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) -> {
+            String name = method.getName();
+            if ((name.equals("commit") || name.equals("rollback")) && method.getParameterCount() == 0) {
+                count(JdbcCounts::transactionEnded);
+            }
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, T statement) {
+        return proxy(type, statement, (method, result) -> {
+            if (method.getName().startsWith("execute")) {
+                count(JdbcCounts::statementExecuted);
+            }
+            if (result instanceof ResultSet resultSet && !method.getName().equals("getGeneratedKeys")) {
+                return wrapResultSet(resultSet);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (method, result) -> {
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                count(JdbcCounts::rowFetched);
+            }
+            return result;
+        });
+    }
+
+    private static void count(Consumer<JdbcCounts> increment) {
+        JdbcCounts counts = CURRENT.get();
+        if (counts != null) {
+            increment.accept(counts);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+        return (T) Proxy.newProxyInstance(JdbcCounter.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    try {
+                        return handler.handle(method, method.invoke(target, args));
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
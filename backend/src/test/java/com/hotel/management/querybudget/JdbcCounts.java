@@ -0,0 +1,32 @@
+package com.hotel.management.querybudget;
+
+import lombok.Getter;
+
+/**
+ * JDBC activity recorded on one thread: executed statements, rows read from result
+ * sets and committed or rolled back transactions.
+ */
+@Getter
+public class JdbcCounts {
+
+    private int statements;
+    private int rows;
+    private int transactions;
+
+    void statementExecuted() {
+        statements++;
+    }
+
+    void rowFetched() {
+        rows++;
+    }
+
+    void transactionEnded() {
+        transactions++;
+    }
+
+    @Override
+    public String toString() {
+        return statements + " statements, " + rows + " rows, " + transactions + " transactions";
+    }
+}
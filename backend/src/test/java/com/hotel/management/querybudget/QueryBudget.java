@@ -0,0 +1,50 @@
+package com.hotel.management.querybudget;
+
+/**
+ * Upper bounds on the JDBC work one HTTP request may do. The whole request is
+ * measured, including the user lookup done by the JWT filter.
+ */
+public final class QueryBudget {
+
+    private int maxStatements = Integer.MAX_VALUE;
+    private int maxRows = Integer.MAX_VALUE;
+    private int maxTransactions = Integer.MAX_VALUE;
+
+    private QueryBudget() {
+    }
+
+    public static QueryBudget statements(int maxStatements) {
+        QueryBudget budget = new QueryBudget();
+        budget.maxStatements = maxStatements;
+        return budget;
+    }
+
+    public QueryBudget rows(int maxRows) {
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    public QueryBudget transactions(int maxTransactions) {
+        this.maxTransactions = maxTransactions;
+        return this;
+    }
+
+    public void assertWithin(String endpoint, JdbcCounts counts) {
+        if (counts.getStatements() > maxStatements
+                || counts.getRows() > maxRows
+                || counts.getTransactions() > maxTransactions) {
+            throw new AssertionError(endpoint + " exceeded its query budget: did " + counts
+                    + ", allowed " + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format(maxStatements) + " statements, " + format(maxRows) + " rows, "
+                + format(maxTransactions) + " transactions";
+    }
+
+    private static String format(int limit) {
+        return limit == Integer.MAX_VALUE ? "any" : String.valueOf(limit);
+    }
+}
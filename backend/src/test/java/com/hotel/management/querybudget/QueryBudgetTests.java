@@ -0,0 +1,129 @@
+package com.hotel.management.querybudget;
+
+import com.hotel.management.entity.Room;
+import com.hotel.management.repository.RoomRepository;
+import com.hotel.management.util.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Per-endpoint SQL budgets, measured against the embedded database with the sample
+ * data seeded. Every authenticated request includes one statement and one transaction
+ * for the JWT filter's user lookup.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(CountingDataSourceConfig.class)
+class QueryBudgetTests {
+
+    private static final long HOTEL_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Test
+    void myBookings() throws Exception {
+        String token = bearer("customer@hotel.com");
+        JdbcCounts counts = JdbcCounter.record(() -> mockMvc.perform(get("/api/bookings/my-bookings")
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+
+        QueryBudget.statements(2).transactions(2).assertWithin("GET /api/bookings/my-bookings", counts);
+    }
+
+    @Test
+    void allBookings() throws Exception {
+        String token = bearer("admin@hotel.com");
+        JdbcCounts counts = JdbcCounter.record(() -> mockMvc.perform(get("/api/bookings")
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+
+        // The bookings' users come from the directory in one extra read
+        QueryBudget.statements(3).transactions(3).assertWithin("GET /api/bookings", counts);
+    }
+
+    @Test
+    void allRooms() throws Exception {
+        String token = bearer("customer@hotel.com");
+        JdbcCounts counts = JdbcCounter.record(() -> mockMvc.perform(get("/api/rooms")
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+
+        QueryBudget.statements(2).rows(20).transactions(2).assertWithin("GET /api/rooms", counts);
+    }
+
+    @Test
+    void availableRooms() throws Exception {
+        String token = bearer("customer@hotel.com");
+        JdbcCounts counts = JdbcCounter.record(() -> mockMvc.perform(get("/api/rooms/available")
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+
+        QueryBudget.statements(2).rows(20).transactions(2).assertWithin("GET /api/rooms/available", counts);
+    }
+
+    @Test
+    void signIn() throws Exception {
+        JdbcCounts counts = JdbcCounter.record(() -> mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"customer@hotel.com\",\"password\":\"password\"}"))
+                .andExpect(status().isOk()));
+
+        QueryBudget.statements(1).rows(1).transactions(1).assertWithin("POST /api/auth/signin", counts);
+    }
+
+    @Test
+    void createBooking() throws Exception {
+        Room room = roomRepository.findByHotelIdAndRoomNumber(HOTEL_ID, "301").orElseThrow();
+        String token = bearer("customer@hotel.com");
+        String body = String.format("{\"roomId\":%d,\"checkInDate\":\"%s\",\"checkOutDate\":\"%s\"}",
+                room.getId(), LocalDate.now().plusDays(10), LocalDate.now().plusDays(12));
+
+        JdbcCounts counts = JdbcCounter.record(() -> mockMvc.perform(post("/api/bookings")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk()));
+
+        QueryBudget.statements(6).transactions(3).assertWithin("POST /api/bookings", counts);
+    }
+
+    @Test
+    void exportBookings() throws Exception {
+        String token = bearer("admin@hotel.com");
+        JdbcCounts counts = JdbcCounter.record(() -> mockMvc.perform(get("/api/exports/bookings")
+                        .header("Authorization", token)
+                        .param("from", LocalDate.now().toString())
+                        .param("to", LocalDate.now().plusDays(30).toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(",customer@hotel.com,"))));
+
+        // The default hotel shares the directory's database, so the users are joined into the streamed query
+        QueryBudget.statements(2).transactions(2).assertWithin("GET /api/exports/bookings", counts);
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + tokenProvider.generateToken(email);
+    }
+}
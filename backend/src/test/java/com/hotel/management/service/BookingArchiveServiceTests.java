@@ -0,0 +1,127 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.entity.ArchivedBooking;
+import com.hotel.management.entity.Booking;
+import com.hotel.management.entity.BookingStatus;
+import com.hotel.management.entity.Room;
+import com.hotel.management.entity.User;
+import com.hotel.management.repository.ArchivedBookingRepository;
+import com.hotel.management.repository.BookingRepository;
+import com.hotel.management.repository.RoomRepository;
+import com.hotel.management.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:booking_archive;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.audit.directory=target/audit-archive",
+        "app.bookings.archive.retention-days=30",
+        "app.bookings.archive.batch-size=2",
+        "app.bookings.archive.batch-pause-ms=0"
+})
+@ActiveProfiles("test")
+class BookingArchiveServiceTests {
+
+    private static final long HOTEL_ID = 1L;
+
+    @Autowired
+    private BookingArchiveService bookingArchiveService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @MockitoSpyBean
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void archivesOldBookingsInBatchesAndMergesThemIntoRangeQueries() {
+        LocalDate today = LocalDate.now();
+        List<Booking> old = List.of(
+                book("102", today.minusDays(100), today.minusDays(98)),
+                book("102", today.minusDays(90), today.minusDays(88)),
+                book("201", today.minusDays(80), today.minusDays(78)),
+                book("201", today.minusDays(70), today.minusDays(68)),
+                book("202", today.minusDays(60), today.minusDays(31)));
+        Booking recent = book("202", today.minusDays(12), today.minusDays(10));
+
+        bookingArchiveService.archiveCompletedBookings();
+
+        // Five archivable bookings in batches of two
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(bookingRepository, atLeastOnce()).deleteByIds(deleted.capture());
+        assertEquals(List.of(2, 2, 1), deleted.getAllValues().stream().map(List::size).toList());
+
+        for (Booking booking : old) {
+            assertFalse(bookingRepository.findById(booking.getId()).isPresent());
+            ArchivedBooking archived = archivedBookingRepository.findById(booking.getId()).orElseThrow();
+            assertEquals(booking.getCheckInDate(), archived.getCheckInDate());
+            assertEquals(booking.getCheckOutDate(), archived.getCheckOutDate());
+            assertEquals(booking.getRoom().getId(), archived.getRoom().getId());
+            assertEquals(booking.getUser().getId(), archived.getUser().getId());
+            assertEquals(HOTEL_ID, archived.getHotel().getId());
+        }
+        assertTrue(bookingRepository.findById(recent.getId()).isPresent());
+        assertFalse(archivedBookingRepository.findById(recent.getId()).isPresent());
+
+        User user = customer();
+        Set<Long> expected = ids(List.of(old.get(3), old.get(4), recent));
+        assertEquals(expected, ids(HotelContext.callAs(HOTEL_ID,
+                () -> bookingService.getBookingsForUser(user, today.minusDays(70), today.minusDays(10)))));
+        assertEquals(expected, ids(HotelContext.callAs(HOTEL_ID,
+                () -> bookingService.getAllBookings(today.minusDays(70), today.minusDays(10)))));
+        assertTrue(HotelContext.callAs(HOTEL_ID,
+                () -> bookingService.getAllBookings(today.minusDays(70), today.minusDays(10))).stream()
+                .filter(booking -> !booking.getId().equals(recent.getId()))
+                .allMatch(booking -> booking.getStatus() == BookingStatus.COMPLETED));
+
+        // A range starting inside the retention window does not read the archive
+        assertEquals(Set.of(recent.getId()), ids(HotelContext.callAs(HOTEL_ID,
+                () -> bookingService.getBookingsForUser(user, today.minusDays(20), today.minusDays(10)))));
+    }
+
+    private Booking book(String roomNumber, LocalDate checkIn, LocalDate checkOut) {
+        Room room = roomRepository.findByHotelIdAndRoomNumber(HOTEL_ID, roomNumber).orElseThrow();
+        Booking booking = new Booking();
+        booking.setHotel(room.getHotel());
+        booking.setUser(customer());
+        booking.setRoom(room);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setStatus(BookingStatus.COMPLETED);
+        return bookingRepository.save(booking);
+    }
+
+    private User customer() {
+        return userRepository.findByEmail("customer@hotel.com").orElseThrow();
+    }
+
+    private static Set<Long> ids(List<Booking> bookings) {
+        return bookings.stream().map(Booking::getId).collect(Collectors.toSet());
+    }
+}
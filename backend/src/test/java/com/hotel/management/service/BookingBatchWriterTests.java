@@ -0,0 +1,172 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.entity.Booking;
+import com.hotel.management.entity.Room;
+import com.hotel.management.entity.User;
+import com.hotel.management.repository.RoomRepository;
+import com.hotel.management.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Burst mode with a single partition. The first batch of each test is held open so
+ * that the following bookings queue up behind it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:booking_batch;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.audit.directory=target/audit-batch",
+        "app.bookings.burst.enabled=true",
+        "app.bookings.burst.partitions=1",
+        "app.bookings.burst.timeout-ms=500"
+})
+@ActiveProfiles("test")
+class BookingBatchWriterTests {
+
+    private static final long HOTEL_ID = 1L;
+
+    @Autowired
+    private BookingBatchWriter bookingBatchWriter;
+
+    @MockitoSpyBean
+    private BookingService bookingService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    private final CountDownLatch batchStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseBatch = new CountDownLatch(1);
+
+    @AfterEach
+    void stopCallers() {
+        releaseBatch.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void acceptsAndRejectsInArrivalOrder() throws Exception {
+        Room contested = newRoom("B-101");
+        Room other = newRoom("B-102");
+        Future<Booking> blocker = holdFirstBatch(newRoom("B-103"));
+
+        Future<Booking> first = book(contested);
+        awaitQueued(1);
+        Future<Booking> second = book(contested);
+        awaitQueued(2);
+        Future<Booking> third = book(other);
+        awaitQueued(3);
+        releaseBatch.countDown();
+
+        assertNotNull(blocker.get(5, TimeUnit.SECONDS).getId());
+        assertNotNull(first.get(5, TimeUnit.SECONDS).getId());
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RoomNotAvailableException.class, rejected.getCause());
+        assertNotNull(third.get(5, TimeUnit.SECONDS).getId());
+    }
+
+    @Test
+    void timedOutCallerOnlyAbandonsUnclaimedBooking() throws Exception {
+        Room abandoned = newRoom("B-201");
+        Future<Booking> claimed = holdFirstBatch(newRoom("B-202"));
+
+        Future<Booking> queued = book(abandoned);
+        awaitQueued(1);
+        ExecutionException timedOut = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertEquals("Booking timed out, please retry", timedOut.getCause().getMessage());
+
+        // The claimed booking has outlived its own timeout by now and must still commit
+        assertFalse(claimed.isDone());
+        releaseBatch.countDown();
+        assertNotNull(claimed.get(5, TimeUnit.SECONDS).getId());
+
+        assertNotNull(book(newRoom("B-203")).get(5, TimeUnit.SECONDS).getId());
+        assertTrue(roomRepository.findById(abandoned.getId()).orElseThrow().isAvailable());
+    }
+
+    @Test
+    void writerSurvivesFailedBatch() throws Exception {
+        doThrow(new OutOfMemoryError("simulated")).doCallRealMethod().when(bookingService).createBookingBatch(anyList());
+
+        ExecutionException failed = assertThrows(ExecutionException.class,
+                () -> book(newRoom("B-301")).get(5, TimeUnit.SECONDS));
+        assertEquals("Booking batch failed, please retry", failed.getCause().getMessage());
+
+        // Grouped by the hotel the booking was queued for, so a room without its hotel resolved still books
+        Room unresolved = new Room();
+        unresolved.setId(newRoom("B-302").getId());
+        assertNotNull(book(unresolved).get(5, TimeUnit.SECONDS).getId());
+    }
+
+    // Books the room and keeps the writer inside that batch until releaseBatch opens
+    private Future<Booking> holdFirstBatch(Room room) throws InterruptedException {
+        doAnswer(invocation -> {
+            batchStarted.countDown();
+            releaseBatch.await();
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(bookingService).createBookingBatch(anyList());
+        Future<Booking> result = book(room);
+        assertTrue(batchStarted.await(5, TimeUnit.SECONDS));
+        return result;
+    }
+
+    private Future<Booking> book(Room room) {
+        User user = userRepository.findByEmail("customer@hotel.com").orElseThrow();
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setRoom(room);
+        booking.setCheckInDate(LocalDate.now().plusDays(7));
+        booking.setCheckOutDate(LocalDate.now().plusDays(9));
+        return callers.submit(() -> HotelContext.callAs(HOTEL_ID, () -> bookingBatchWriter.book(booking)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void awaitQueued(int size) throws InterruptedException {
+        List<BlockingQueue<?>> queues = (List<BlockingQueue<?>>) ReflectionTestUtils.getField(bookingBatchWriter, "queues");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queues.get(0).size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, queues.get(0).size());
+    }
+
+    private Room newRoom(String roomNumber) {
+        Room room = new Room();
+        room.setHotel(roomRepository.findByHotelIdAndRoomNumber(HOTEL_ID, "101").orElseThrow().getHotel());
+        room.setRoomNumber(roomNumber);
+        room.setType("Standard");
+        room.setPrice(new BigDecimal("100.00"));
+        room.setAvailable(true);
+        return roomRepository.save(room);
+    }
+}
@@ -0,0 +1,116 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.entity.Booking;
+import com.hotel.management.entity.BookingStatus;
+import com.hotel.management.entity.Room;
+import com.hotel.management.entity.User;
+import com.hotel.management.repository.BookingRepository;
+import com.hotel.management.repository.RoomRepository;
+import com.hotel.management.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:booking_lifecycle;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.audit.directory=target/audit-lifecycle",
+        "app.bookings.lifecycle.batch-size=1"
+})
+@ActiveProfiles("test")
+class BookingLifecycleServiceTests {
+
+    private static final long HOTEL_ID = 1L;
+
+    @Autowired
+    private BookingLifecycleService bookingLifecycleService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void advancesBookingsAndReleasesRooms() {
+        LocalDate today = LocalDate.now();
+        Booking checkedOut = book("102", today.minusDays(3), today);
+        Booking staying = book("201", today.minusDays(1), today.plusDays(2));
+        Booking pastStayOfBookedRoom = book("202", today.minusDays(5), today.minusDays(2));
+        Booking laterStayOfBookedRoom = book("202", today.plusDays(5), today.plusDays(7));
+
+        bookingLifecycleService.advanceBookings();
+        bookingLifecycleService.advanceBookings();
+
+        assertEquals(BookingStatus.COMPLETED, statusOf(checkedOut));
+        assertEquals(BookingStatus.IN_HOUSE, statusOf(staying));
+        assertEquals(BookingStatus.COMPLETED, statusOf(pastStayOfBookedRoom));
+        assertEquals(BookingStatus.UPCOMING, statusOf(laterStayOfBookedRoom));
+        assertTrue(room("102").isAvailable());
+        assertFalse(room("201").isAvailable());
+        assertFalse(room("202").isAvailable());
+    }
+
+    @Test
+    void cancelingKeepsRoomsHeldByOtherStays() {
+        LocalDate today = LocalDate.now();
+        Booking pastStay = book("301", today.minusDays(4), today.minusDays(2));
+        bookingLifecycleService.advanceBookings();
+        Booking nextStay = book("301", today.plusDays(3), today.plusDays(4));
+        Booking laterStay = book("301", today.plusDays(10), today.plusDays(12));
+
+        assertThrows(RuntimeException.class, () -> cancel(pastStay));
+        assertEquals(BookingStatus.COMPLETED, statusOf(pastStay));
+        assertFalse(room("301").isAvailable());
+
+        cancel(nextStay);
+        assertFalse(room("301").isAvailable());
+
+        cancel(laterStay);
+        assertTrue(room("301").isAvailable());
+    }
+
+    private void cancel(Booking booking) {
+        HotelContext.callAs(HOTEL_ID, () -> {
+            bookingService.cancelBooking(booking.getId());
+            return null;
+        });
+    }
+
+    private Booking book(String roomNumber, LocalDate checkIn, LocalDate checkOut) {
+        Room room = room(roomNumber);
+        room.setAvailable(false);
+        roomRepository.save(room);
+        User user = userRepository.findByEmail("customer@hotel.com").orElseThrow();
+
+        Booking booking = new Booking();
+        booking.setHotel(room.getHotel());
+        booking.setUser(user);
+        booking.setRoom(room);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        return bookingRepository.save(booking);
+    }
+
+    private Room room(String roomNumber) {
+        return roomRepository.findByHotelIdAndRoomNumber(HOTEL_ID, roomNumber).orElseThrow();
+    }
+
+    private BookingStatus statusOf(Booking booking) {
+        return bookingRepository.findById(booking.getId()).orElseThrow().getStatus();
+    }
+}
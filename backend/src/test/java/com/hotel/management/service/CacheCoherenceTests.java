@@ -0,0 +1,142 @@
+package com.hotel.management.service;
+
+import com.hotel.management.HotelManagementSystemApplication;
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.dto.RoomSuggestion;
+import com.hotel.management.entity.Room;
+import com.hotel.management.repository.RoomRepository;
+import com.hotel.management.util.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application instances sharing one embedded database: a change made on one must
+ * reach the in-process caches of the other within a few poll intervals, even while a
+ * long scheduled job (standing in for an archive run) holds the scheduler thread.
+ */
+class CacheCoherenceTests {
+
+    private static final long HOTEL_ID = 1L;
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long STALENESS_BOUND_MS = 20 * POLL_INTERVAL_MS;
+    private static final String DATABASE_URL = "jdbc:h2:mem:cache_coherence;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private static ConfigurableApplicationContext instanceA;
+    private static ConfigurableApplicationContext instanceB;
+
+    private static final CountDownLatch slowJobsRunning = new CountDownLatch(2);
+    private static final CountDownLatch releaseSlowJobs = new CountDownLatch(1);
+
+    @BeforeAll
+    static void startInstances() throws InterruptedException {
+        instanceA = start("create-drop", true, "target/audit-a");
+        instanceB = start("none", false, "target/audit-b");
+        assertTrue(slowJobsRunning.await(10, TimeUnit.SECONDS), "slow scheduled jobs did not start");
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        releaseSlowJobs.countDown();
+        if (instanceB != null) {
+            instanceB.close();
+        }
+        if (instanceA != null) {
+            instanceA.close();
+        }
+    }
+
+    @Test
+    void revokedTokenReachesOtherInstance() {
+        JwtTokenProvider tokenProvider = instanceA.getBean(JwtTokenProvider.class);
+        Claims claims = tokenProvider.parseClaims(tokenProvider.generateToken("customer@hotel.com"));
+        TokenRevocationService revocationA = instanceA.getBean(TokenRevocationService.class);
+        TokenRevocationService revocationB = instanceB.getBean(TokenRevocationService.class);
+        assertFalse(revocationB.isRevoked(claims));
+
+        revocationA.revokeToken(claims);
+
+        assertTrue(eventually(() -> revocationB.isRevoked(claims)), "token still accepted by instance B");
+    }
+
+    @Test
+    void roomChangeReachesOtherInstance() {
+        RoomRepository roomRepository = instanceA.getBean(RoomRepository.class);
+        Room requested = roomRepository.findByHotelIdAndRoomNumber(HOTEL_ID, "201").orElseThrow();
+        Room changed = roomRepository.findByHotelIdAndRoomNumber(HOTEL_ID, "202").orElseThrow();
+        RoomSuggestionIndex indexB = instanceB.getBean(RoomSuggestionIndex.class);
+        LocalDate checkIn = LocalDate.now().plusDays(30);
+        LocalDate checkOut = checkIn.plusDays(2);
+        assertTrue(suggests(indexB, requested, checkIn, checkOut, changed));
+
+        Room details = new Room();
+        details.setRoomNumber(changed.getRoomNumber());
+        details.setType(changed.getType());
+        details.setPrice(new BigDecimal("500.00"));
+        details.setAvailable(changed.isAvailable());
+        RoomService roomServiceA = instanceA.getBean(RoomService.class);
+        HotelContext.callAs(HOTEL_ID, () -> roomServiceA.updateRoom(changed.getId(), details));
+
+        assertTrue(eventually(() -> !suggests(indexB, requested, checkIn, checkOut, changed)),
+                "instance B still suggests the repriced room");
+    }
+
+    private static ConfigurableApplicationContext start(String ddlAuto, boolean seed, String auditDirectory) {
+        return new SpringApplicationBuilder(HotelManagementSystemApplication.class, SlowScheduledJob.class)
+                .profiles("test")
+                // Arguments rather than default properties, which application-test.properties would override
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + DATABASE_URL,
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--app.seed.enabled=" + seed,
+                        "--app.audit.directory=" + auditDirectory,
+                        "--app.cache.invalidation.poll-interval-ms=" + POLL_INTERVAL_MS);
+    }
+
+    // Registered as a source rather than a @Component so that other tests' scans skip it
+    static class SlowScheduledJob {
+
+        @Scheduled(fixedDelay = 60_000)
+        public void run() throws InterruptedException {
+            slowJobsRunning.countDown();
+            releaseSlowJobs.await();
+        }
+    }
+
+    private static boolean suggests(RoomSuggestionIndex index, Room requested, LocalDate checkIn, LocalDate checkOut,
+                                    Room candidate) {
+        return index.suggest(HOTEL_ID, requested.getId(), checkIn, checkOut).getAlternatives().stream()
+                .map(RoomSuggestion::getRoomId)
+                .anyMatch(candidate.getId()::equals);
+    }
+
+    private static boolean eventually(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + STALENESS_BOUND_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS / 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+}
@@ -0,0 +1,149 @@
+package com.hotel.management.service;
+
+import com.hotel.management.config.HotelContext;
+import com.hotel.management.dto.BookingRejectionResponse;
+import com.hotel.management.dto.RoomSuggestion;
+import com.hotel.management.entity.Booking;
+import com.hotel.management.entity.Hotel;
+import com.hotel.management.entity.Room;
+import com.hotel.management.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Each test works on a hotel of its own, so the index entries of one test never meet
+ * those of another.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:room_suggestions;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.audit.directory=target/audit-suggestions",
+        "app.bookings.suggestions.max-alternatives=5",
+        "app.bookings.suggestions.price-tolerance=0.25"
+})
+@ActiveProfiles("test")
+class RoomSuggestionIndexTests {
+
+    @Autowired
+    private RoomSuggestionIndex roomSuggestionIndex;
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(3);
+    private final LocalDate checkOut = checkIn.plusDays(2);
+
+    @Test
+    void suggestsSameTypeByNearestPriceWithinTolerance() {
+        Long hotelId = newHotel("NEAREST");
+        Room requested = addRoom(hotelId, "100", "Studio", "100.00", true);
+        addRoom(hotelId, "130", "Studio", "130.00", true);
+        addRoom(hotelId, "120", "Studio", "120.00", true);
+        addRoom(hotelId, "95", "Studio", "95.00", true);
+        addRoom(hotelId, "80", "Studio", "80.00", true);
+        addRoom(hotelId, "110", "Studio", "110.00", true);
+        addRoom(hotelId, "LOFT", "Loft", "100.00", true);
+
+        // 20 below and 20 above tie; the cheaper one comes first. 130 is 30% off and left out
+        assertEquals(List.of("95", "110", "80", "120"), alternatives(hotelId, requested));
+    }
+
+    @Test
+    void skipsUnavailableRoomsAndTheRequestedOne() {
+        Long hotelId = newHotel("AVAILABLE");
+        Room requested = addRoom(hotelId, "A-1", "Studio", "100.00", false);
+        addRoom(hotelId, "A-2", "Studio", "100.00", false);
+        addRoom(hotelId, "A-3", "Studio", "101.00", true);
+        Room booked = addRoom(hotelId, "A-4", "Studio", "99.00", true);
+        assertEquals(List.of("A-4", "A-3"), alternatives(hotelId, requested));
+
+        HotelContext.callAs(hotelId, () -> bookingService.createBooking(booking(booked, checkIn, checkOut)));
+
+        assertEquals(List.of("A-3"), alternatives(hotelId, requested));
+    }
+
+    @Test
+    void suggestsRequestedRoomFromItsLatestCheckOut() {
+        Long hotelId = newHotel("SHIFTED");
+        Room requested = addRoom(hotelId, "S-1", "Suite", "250.00", true);
+        LocalDate bookedUntil = checkIn.plusDays(1);
+        HotelContext.callAs(hotelId, () -> bookingService.createBooking(booking(requested, checkIn.minusDays(1), bookedUntil)));
+
+        RoomSuggestion shifted = suggest(hotelId, requested).getShiftedDates();
+
+        assertEquals(requested.getId(), shifted.getRoomId());
+        assertEquals(bookedUntil, shifted.getCheckInDate());
+        assertEquals(bookedUntil.plusDays(2), shifted.getCheckOutDate());
+        assertNull(roomSuggestionIndex.suggest(hotelId, requested.getId(), bookedUntil, bookedUntil.plusDays(2))
+                .getShiftedDates());
+    }
+
+    @Test
+    void rolledBackBookingLeavesRoomSuggested() {
+        Long hotelId = newHotel("ROLLBACK");
+        Room requested = addRoom(hotelId, "R-1", "Studio", "100.00", false);
+        Room other = addRoom(hotelId, "R-2", "Studio", "100.00", true);
+        assertEquals(List.of("R-2"), alternatives(hotelId, requested));
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        HotelContext.callAs(hotelId, () -> transaction.execute(status -> {
+            bookingService.createBooking(booking(other, checkIn, checkOut));
+            status.setRollbackOnly();
+            return null;
+        }));
+
+        assertEquals(List.of("R-2"), alternatives(hotelId, requested));
+    }
+
+    private Long newHotel(String code) {
+        return hotelService.addHotel(new Hotel(null, code, code)).getId();
+    }
+
+    private Room addRoom(Long hotelId, String roomNumber, String type, String price, boolean available) {
+        Room room = new Room();
+        room.setRoomNumber(roomNumber);
+        room.setType(type);
+        room.setPrice(new BigDecimal(price));
+        room.setAvailable(available);
+        return HotelContext.callAs(hotelId, () -> roomService.addRoom(room));
+    }
+
+    private Booking booking(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        Booking booking = new Booking();
+        booking.setUser(userRepository.findByEmail("customer@hotel.com").orElseThrow());
+        booking.setRoom(room);
+        booking.setCheckInDate(checkInDate);
+        booking.setCheckOutDate(checkOutDate);
+        return booking;
+    }
+
+    private BookingRejectionResponse suggest(Long hotelId, Room requested) {
+        return roomSuggestionIndex.suggest(hotelId, requested.getId(), checkIn, checkOut);
+    }
+
+    private List<String> alternatives(Long hotelId, Room requested) {
+        return suggest(hotelId, requested).getAlternatives().stream().map(RoomSuggestion::getRoomNumber).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.hotel.management.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTests {
+
+    @Test
+    void neverMissesAnAddedKey() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> keys = new ArrayList<>();
+        // Twice the expected entries, so a saturated filter must still hold every key
+        for (int i = 0; i < 20_000; i++) {
+            String key = i % 2 == 0 ? UUID.randomUUID().toString() : "user:guest" + i + "@hotel.com";
+            keys.add(key);
+            filter.put(key);
+        }
+
+        for (String key : keys) {
+            assertTrue(filter.mightContain(key), key);
+        }
+    }
+
+    @Test
+    void keepsKeysAddedConcurrently() throws Exception {
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<String>>> added = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            added.add(executor.submit(() -> {
+                List<String> keys = new ArrayList<>();
+                for (int i = 0; i < 10_000; i++) {
+                    String key = UUID.randomUUID().toString();
+                    filter.put(key);
+                    keys.add(key);
+                }
+                return keys;
+            }));
+        }
+        executor.shutdown();
+
+        for (Future<List<String>> keys : added) {
+            for (String key : keys.get()) {
+                assertTrue(filter.mightContain(key), key);
+            }
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfigured() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("added-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, falsePositives + " false positives in 100000");
+    }
+}
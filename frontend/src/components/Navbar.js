@@ -9,6 +9,7 @@ import {
   XMarkIcon,
   BuildingOfficeIcon
 } from '@heroicons/react/24/outline';
+import api from '../services/api';
 
 const Navbar = () => {
   const [isMenuOpen, setIsMenuOpen] = useState(false);
@@ -44,6 +45,8 @@ const Navbar = () => {
   }, [location]);
 
   const handleLogout = () => {
+    // Revoke the token server-side; local logout proceeds regardless
+    api.logout(localStorage.getItem('token')).catch(() => {});
     localStorage.removeItem('token');
     localStorage.removeItem('userRole');
     setIsLoggedIn(false);
@@ -147,6 +147,11 @@ const RoomBookingPage = () => {
             console.error('Booking failed', error);
             const errorMessage = error.response?.data?.message || 'Booking failed. Please try again.';
             toast.error(errorMessage);
+            const { alternatives = [], shiftedDates } = error.response?.data || {};
+            alternatives.forEach(room => toast(`Room ${room.roomNumber} (${room.type}, $${room.price}/night) is currently available`));
+            if (shiftedDates) {
+                toast(`This room is free from ${shiftedDates.checkInDate} to ${shiftedDates.checkOutDate}`);
+            }
         } finally {
             setIsSubmitting(false);
         }
@@ -36,6 +36,7 @@ export default {
     // Auth
     login: (credentials) => apiClient.post('/auth/signin', credentials),
     signup: (userInfo) => apiClient.post('/auth/signup', userInfo),
+    logout: (token) => apiClient.post('/auth/logout', null, { headers: { Authorization: `Bearer ${token}` } }),
 
     // Rooms
     getRooms: () => apiClient.get('/rooms'),